@@ -0,0 +1,149 @@
+package com.batton.memberservice.cache;
+
+import com.batton.memberservice.common.TransactionHooks;
+import com.batton.memberservice.repository.MemberRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * 가입된 이메일 키 Bloom filter
+ * 확실히 없는 이메일은 DB 조회를 생략하고, 있을 수도 있는 경우에만 DB 로 확인함
+ * 가입 시 추가된 이메일 키는 Redis pub/sub 으로 다른 인스턴스의 필터에도 반영함
+ */
+@Slf4j
+@Component
+public class EmailExistenceFilter implements MessageListener {
+    public static final String CHANNEL = "member:email:added";
+    private final MemberRepository memberRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+    private final double falsePositiveRate;
+    private final long minExpectedInsertions;
+    private final Counter filterNegativeCounter;
+    private final Counter dbConfirmedCounter;
+    private final Counter falsePositiveCounter;
+    // 아직 생성 전이면 null (항상 DB 로 확인)
+    private volatile BloomFilter filter;
+    // 재생성 중 추가된 이메일을 새 필터에도 반영하기 위함
+    private volatile BloomFilter rebuilding;
+
+    public EmailExistenceFilter(MemberRepository memberRepository, StringRedisTemplate redisTemplate,
+                                PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+                                @Value("${member.email-filter.false-positive-rate:0.01}") double falsePositiveRate,
+                                @Value("${member.email-filter.expected-insertions:100000}") long minExpectedInsertions) {
+        this.memberRepository = memberRepository;
+        this.redisTemplate = redisTemplate;
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+        this.falsePositiveRate = falsePositiveRate;
+        this.minExpectedInsertions = minExpectedInsertions;
+        this.filterNegativeCounter = Counter.builder("member.email.filter").tag("result", "filter_negative").register(meterRegistry);
+        this.dbConfirmedCounter = Counter.builder("member.email.filter").tag("result", "db_confirmed").register(meterRegistry);
+        this.falsePositiveCounter = Counter.builder("member.email.filter").tag("result", "false_positive").register(meterRegistry);
+    }
+
+    /**
+     * 이메일 키 존재 여부 확인
+     * @param confirmer Bloom filter 가 있을 수도 있다고 판단한 경우 호출할 DB 확인 함수
+     */
+    public boolean exists(String emailKey, Predicate<String> confirmer) {
+        BloomFilter current = filter;
+
+        if (current != null && !current.mightContain(emailKey)) {
+            filterNegativeCounter.increment();
+
+            return false;
+        }
+        boolean exists = confirmer.test(emailKey);
+
+        if (exists) {
+            dbConfirmedCounter.increment();
+        } else if (current != null) {
+            falsePositiveCounter.increment();
+        }
+
+        return exists;
+    }
+
+    /**
+     * 커밋 이후 필터에 이메일 키 추가 및 다른 인스턴스에 전파
+     */
+    public void add(String emailKey) {
+        TransactionHooks.afterCommit(() -> {
+            put(emailKey);
+            try {
+                redisTemplate.convertAndSend(CHANNEL, emailKey);
+            } catch (RuntimeException e) {
+                log.warn("이메일 Bloom filter 추가 전파에 실패하였습니다. 다음 재생성 전까지 다른 인스턴스에서 누락될 수 있습니다.", e);
+            }
+        });
+    }
+
+    /**
+     * 다른 인스턴스에서 추가된 이메일 키 반영
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        put(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 시작 시 및 주기적으로 전체 이메일 키를 스트리밍 조회하여 필터 재생성
+     */
+    @Scheduled(fixedDelayString = "${member.email-filter.rebuild-interval-ms:3600000}")
+    public void rebuild() {
+        long startTime = System.currentTimeMillis();
+        long expectedInsertions = Math.max(minExpectedInsertions, memberRepository.count() * 2);
+        BloomFilter next = new BloomFilter(expectedInsertions, falsePositiveRate);
+
+        // 스캔 시작 이후 커밋된 이메일은 put 에서 새 필터에도 추가됨
+        synchronized (this) {
+            rebuilding = next;
+        }
+        try {
+            Long count = readOnlyTransactionTemplate.execute(status -> {
+                long scanned = 0;
+
+                try (Stream<String> emailKeys = memberRepository.streamAllEmailKeys()) {
+                    for (String emailKey : (Iterable<String>) emailKeys::iterator) {
+                        next.put(emailKey);
+                        scanned++;
+                    }
+                }
+
+                return scanned;
+            });
+            synchronized (this) {
+                filter = next;
+            }
+            log.info("이메일 Bloom filter 생성: {}건, {}bits, {}ms", count, next.getBitSize(), System.currentTimeMillis() - startTime);
+        } catch (RuntimeException e) {
+            log.error("이메일 Bloom filter 생성에 실패하였습니다.", e);
+        } finally {
+            synchronized (this) {
+                rebuilding = null;
+            }
+        }
+    }
+
+    private synchronized void put(String emailKey) {
+        if (filter != null) {
+            filter.put(emailKey);
+        }
+        if (rebuilding != null) {
+            rebuilding.put(emailKey);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.batton.memberservice.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * 이메일 키 -> 유저 아이디 로컬 캐시
+ * 이메일은 변경되지 않으므로 존재하는 유저만 캐시함
+ */
+@Component
+public class MemberEmailCache {
+    private final Cache<String, Long> localCache;
+
+    public MemberEmailCache(MeterRegistry meterRegistry,
+                            @Value("${member.cache.email-max-size:100000}") long maxSize,
+                            @Value("${member.cache.email-ttl-seconds:3600}") long ttlSeconds) {
+        this.localCache = CaffeineCacheMetrics.monitor(meterRegistry, Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build(), "member.email");
+    }
+
+    public Optional<Long> getMemberId(String emailKey, Function<String, Optional<Long>> loader) {
+        if (emailKey == null) {
+            return Optional.empty();
+        }
+
+        return Optional.ofNullable(localCache.get(emailKey, key -> loader.apply(key).orElse(null)));
+    }
+
+    public void put(String emailKey, Long memberId) {
+        localCache.put(emailKey, memberId);
+    }
+
+    public void evict(String emailKey) {
+        localCache.invalidate(emailKey);
+    }
+}
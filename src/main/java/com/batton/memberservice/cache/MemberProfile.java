@@ -0,0 +1,58 @@
+package com.batton.memberservice.cache;
+
+import com.batton.memberservice.domain.Member;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * 캐시에 저장되는 유저 프로필 스냅샷
+ */
+@Getter
+@NoArgsConstructor
+public class MemberProfile {
+    private Long memberId;
+    private String email;
+    private String nickname;
+    private String profileImage;
+    private LocalDateTime updatedAt;
+
+    @Builder
+    public MemberProfile(Long memberId, String email, String nickname, String profileImage, LocalDateTime updatedAt) {
+        this.memberId = memberId;
+        this.email = email;
+        this.nickname = nickname;
+        this.profileImage = profileImage;
+        this.updatedAt = updatedAt;
+    }
+
+    public static MemberProfile of(Member member) {
+        return MemberProfile.builder()
+                .memberId(member.getId())
+                .email(member.getEmail())
+                .nickname(member.getNickname())
+                .profileImage(member.getProfileImage())
+                .updatedAt(member.getUpdatedAt())
+                .build();
+    }
+
+    /**
+     * 조건부 조회용 strong ETag (유저 아이디 + 수정 시각)
+     */
+    public String entityTag() {
+        return "\"" + memberId + "-" + lastModifiedMillis() + "\"";
+    }
+
+    /**
+     * Last-Modified 값 (수정 시각이 없으면 -1)
+     */
+    public long lastModifiedMillis() {
+        if (updatedAt == null) {
+            return -1;
+        }
+
+        return updatedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,145 @@
+package com.batton.memberservice.cache;
+
+import com.batton.memberservice.common.TransactionHooks;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * 유저 프로필 2단계 캐시 (로컬 Caffeine -> 공유 Redis -> DB)
+ * 변경 시 Redis pub/sub 으로 모든 인스턴스의 로컬 캐시를 무효화함
+ * 무효화 채널은 유저 변경 알림으로도 사용됨 (검색 인덱스 등)
+ * 커밋 직전 값을 읽은 동시 미스가 삭제 이후에 Redis 에 다시 쓰는 경우를 막기 위해 잠시 뒤 한 번 더 삭제함
+ */
+@Slf4j
+@Component
+public class MemberProfileCache implements MessageListener, DisposableBean {
+    public static final String INVALIDATION_CHANNEL = "member:profile:invalidate";
+    private static final String KEY_PREFIX = "member:profile:";
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Cache<Long, MemberProfile> localCache;
+    private final Duration redisTtl;
+    private final Counter redisHitCounter;
+    private final Counter redisMissCounter;
+    private final long evictDelayMillis;
+    private final ScheduledExecutorService evictScheduler;
+
+    public MemberProfileCache(StringRedisTemplate redisTemplate, ObjectMapper objectMapper, MeterRegistry meterRegistry,
+                              @Value("${member.cache.local-max-size:10000}") long localMaxSize,
+                              @Value("${member.cache.local-ttl-seconds:60}") long localTtlSeconds,
+                              @Value("${member.cache.redis-ttl-seconds:600}") long redisTtlSeconds,
+                              @Value("${member.cache.evict-delay-ms:1000}") long evictDelayMillis) {
+        this.redisTemplate = redisTemplate;
+        this.evictDelayMillis = evictDelayMillis;
+        this.evictScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "member-profile-evict");
+            thread.setDaemon(true);
+
+            return thread;
+        });
+        this.objectMapper = objectMapper;
+        this.redisTtl = Duration.ofSeconds(redisTtlSeconds);
+        this.localCache = CaffeineCacheMetrics.monitor(meterRegistry, Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(localTtlSeconds))
+                .recordStats()
+                .build(), "member.profile.local");
+        this.redisHitCounter = Counter.builder("member.profile.cache.redis").tag("result", "hit").register(meterRegistry);
+        this.redisMissCounter = Counter.builder("member.profile.cache.redis").tag("result", "miss").register(meterRegistry);
+    }
+
+    /**
+     * 로컬 캐시 -> Redis -> loader 순으로 조회
+     * 같은 아이디에 대한 동시 미스는 한 번의 로드로 합쳐짐
+     */
+    public Optional<MemberProfile> get(Long memberId, Function<Long, Optional<MemberProfile>> loader) {
+        return Optional.ofNullable(localCache.get(memberId, id -> loadThrough(id, loader)));
+    }
+
+    /**
+     * 커밋 이후 Redis 캐시 삭제 및 모든 인스턴스에 유저 변경 전파
+     */
+    public void evict(Long memberId) {
+        TransactionHooks.afterCommit(() -> evictAll(memberId));
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String memberId = new String(message.getBody(), StandardCharsets.UTF_8);
+
+        try {
+            localCache.invalidate(Long.valueOf(memberId));
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 캐시 무효화 메시지입니다. {}", memberId);
+        }
+    }
+
+    private MemberProfile loadThrough(Long memberId, Function<Long, Optional<MemberProfile>> loader) {
+        String key = KEY_PREFIX + memberId;
+
+        try {
+            String cached = redisTemplate.opsForValue().get(key);
+
+            if (cached != null) {
+                redisHitCounter.increment();
+
+                return objectMapper.readValue(cached, MemberProfile.class);
+            }
+            redisMissCounter.increment();
+        } catch (RuntimeException | JsonProcessingException e) {
+            log.warn("Redis 프로필 캐시 조회에 실패하였습니다. memberId={}", memberId, e);
+        }
+        MemberProfile memberProfile = loader.apply(memberId).orElse(null);
+
+        if (memberProfile != null) {
+            try {
+                redisTemplate.opsForValue().set(key, objectMapper.writeValueAsString(memberProfile), redisTtl);
+            } catch (RuntimeException | JsonProcessingException e) {
+                log.warn("Redis 프로필 캐시 저장에 실패하였습니다. memberId={}", memberId, e);
+            }
+        }
+
+        return memberProfile;
+    }
+
+    @Override
+    public void destroy() {
+        evictScheduler.shutdownNow();
+    }
+
+    private void evictAll(Long memberId) {
+        evictNow(memberId);
+        // 삭제 직전에 시작된 조회가 이전 값을 다시 쓸 수 있으므로 지연 후 한 번 더 삭제
+        evictScheduler.schedule(() -> evictNow(memberId), evictDelayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private void evictNow(Long memberId) {
+        localCache.invalidate(memberId);
+
+        try {
+            redisTemplate.delete(KEY_PREFIX + memberId);
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, String.valueOf(memberId));
+        } catch (RuntimeException e) {
+            log.warn("프로필 캐시 무효화 전파에 실패하였습니다. memberId={}", memberId, e);
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package com.batton.memberservice.cache;
+
+import com.batton.memberservice.repository.MemberRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 이메일/닉네임 접두사 검색용 인메모리 정렬 인덱스
+ * (검색어, 유저 아이디) 순으로 정렬된 skip list 에서 접두사 범위만 순회함
+ */
+@Slf4j
+@Component
+public class MemberSearchIndex implements MessageListener {
+    private static final Comparator<IndexKey> KEY_ORDER =
+            Comparator.comparing((IndexKey key) -> key.term).thenComparingLong(key -> key.memberId);
+    private final MemberRepository memberRepository;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+    private final Timer searchTimer;
+    private final ConcurrentSkipListMap<IndexKey, MemberProfile> index = new ConcurrentSkipListMap<>(KEY_ORDER);
+    private final ConcurrentHashMap<Long, MemberProfile> members = new ConcurrentHashMap<>();
+
+    public MemberSearchIndex(MemberRepository memberRepository, PlatformTransactionManager transactionManager, MeterRegistry meterRegistry) {
+        this.memberRepository = memberRepository;
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+        this.searchTimer = Timer.builder("member.search")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 접두사가 일치하는 유저를 검색어 순으로 최대 size 명 조회
+     */
+    public List<MemberProfile> search(String keyword, int size) {
+        long startTime = System.nanoTime();
+        String prefix = keyword.trim().toLowerCase(Locale.ROOT);
+        Map<Long, MemberProfile> result = new LinkedHashMap<>();
+
+        if (!prefix.isEmpty()) {
+            for (Map.Entry<IndexKey, MemberProfile> entry : index.tailMap(new IndexKey(prefix, Long.MIN_VALUE), true).entrySet()) {
+                if (!entry.getKey().term.startsWith(prefix) || result.size() >= size) {
+                    break;
+                }
+                result.putIfAbsent(entry.getKey().memberId, entry.getValue());
+            }
+        }
+        searchTimer.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+
+        return new ArrayList<>(result.values());
+    }
+
+    /**
+     * 유저 추가 또는 갱신 (이전 닉네임 항목 제거)
+     */
+    public void upsert(MemberProfile memberProfile) {
+        members.compute(memberProfile.getMemberId(), (memberId, previous) -> {
+            if (previous != null) {
+                removeTerms(previous);
+            }
+            addTerms(memberProfile);
+
+            return memberProfile;
+        });
+    }
+
+    public void remove(Long memberId) {
+        members.computeIfPresent(memberId, (id, previous) -> {
+            removeTerms(previous);
+
+            return null;
+        });
+    }
+
+    public int size() {
+        return members.size();
+    }
+
+    /**
+     * 시작 시 활성화된 전체 유저를 스트리밍 조회하여 인덱스 생성
+     * 생성 중 들어온 변경 사항이 덮어써지지 않도록 없는 유저만 추가함
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        long startTime = System.currentTimeMillis();
+
+        try {
+            readOnlyTransactionTemplate.executeWithoutResult(status -> {
+                try (Stream<MemberProfile> profiles = memberRepository.streamEnabledProfiles()) {
+                    profiles.forEach(profile -> members.computeIfAbsent(profile.getMemberId(), memberId -> {
+                        addTerms(profile);
+
+                        return profile;
+                    }));
+                }
+            });
+            log.info("유저 검색 인덱스 생성: {}명, {}ms", members.size(), System.currentTimeMillis() - startTime);
+        } catch (RuntimeException e) {
+            log.error("유저 검색 인덱스 생성에 실패하였습니다.", e);
+        }
+    }
+
+    /**
+     * 유저 변경 알림 수신 시 DB 에서 다시 읽어 인덱스 갱신
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String memberId = new String(message.getBody(), StandardCharsets.UTF_8);
+
+        try {
+            Long id = Long.valueOf(memberId);
+            memberRepository.findEnabledProfileById(id).ifPresentOrElse(this::upsert, () -> remove(id));
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 유저 변경 메시지입니다. {}", memberId);
+        } catch (RuntimeException e) {
+            log.warn("유저 검색 인덱스 갱신에 실패하였습니다. memberId={}", memberId, e);
+        }
+    }
+
+    private void addTerms(MemberProfile memberProfile) {
+        for (String term : terms(memberProfile)) {
+            index.put(new IndexKey(term, memberProfile.getMemberId()), memberProfile);
+        }
+    }
+
+    private void removeTerms(MemberProfile memberProfile) {
+        for (String term : terms(memberProfile)) {
+            index.remove(new IndexKey(term, memberProfile.getMemberId()));
+        }
+    }
+
+    private static List<String> terms(MemberProfile memberProfile) {
+        List<String> terms = new ArrayList<>(2);
+
+        if (memberProfile.getEmail() != null && !memberProfile.getEmail().isEmpty()) {
+            terms.add(memberProfile.getEmail().toLowerCase(Locale.ROOT));
+        }
+        if (memberProfile.getNickname() != null && !memberProfile.getNickname().isEmpty()) {
+            terms.add(memberProfile.getNickname().toLowerCase(Locale.ROOT));
+        }
+
+        return terms;
+    }
+
+    private static final class IndexKey {
+        private final String term;
+        private final long memberId;
+
+        private IndexKey(String term, long memberId) {
+            this.term = term;
+            this.memberId = memberId;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.batton.memberservice.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * 유저 활성화 여부 단기 로컬 캐시 (토큰 검증용)
+ * 미스난 아이디는 한 번의 쿼리로 일괄 조회하며, 유저 변경 알림 수신 시 바로 무효화함
+ */
+@Slf4j
+@Component
+public class MemberStatusCache implements MessageListener {
+    private final Cache<Long, Boolean> localCache;
+
+    public MemberStatusCache(MeterRegistry meterRegistry,
+                             @Value("${member.cache.status-max-size:100000}") long maxSize,
+                             @Value("${member.cache.status-ttl-seconds:5}") long ttlSeconds) {
+        this.localCache = CaffeineCacheMetrics.monitor(meterRegistry, Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build(), "member.status");
+    }
+
+    /**
+     * 유저 아이디별 활성화 여부 조회
+     * @param enabledLoader 미스난 아이디 중 활성화된 유저 아이디를 조회하는 함수
+     */
+    public Map<Long, Boolean> getEnabled(Collection<Long> memberIds, Function<Set<Long>, Collection<Long>> enabledLoader) {
+        return localCache.getAll(memberIds, missingIds -> {
+            Set<Long> missing = new HashSet<>();
+            missingIds.forEach(missing::add);
+            Set<Long> enabledIds = new HashSet<>(enabledLoader.apply(missing));
+            Map<Long, Boolean> loaded = new HashMap<>();
+
+            for (Long memberId : missing) {
+                loaded.put(memberId, enabledIds.contains(memberId));
+            }
+
+            return loaded;
+        });
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String memberId = new String(message.getBody(), StandardCharsets.UTF_8);
+
+        try {
+            localCache.invalidate(Long.valueOf(memberId));
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 캐시 무효화 메시지입니다. {}", memberId);
+        }
+    }
+}
@@ -9,6 +9,7 @@ public enum BaseResponseStatus {
      */
     SUCCESS(true, 200, "요청에 성공하였습니다."),
     NOT_FOUND(false, 404, "요청을 찾을 수 없습니다."),
+    TOO_MANY_REQUESTS(false, 429, "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
     SERVER_ERROR(false, 500, "서버 처리에 오류가 발생하였습니다."),
 
     /**
@@ -22,7 +23,17 @@ public enum BaseResponseStatus {
     INVALID_EMAIL_AUTH_CODE(false,605,"이메일 인증을 진행해주세요."),
     INVALID_AUTH_CODE(false,606,"인증번호가 일치하지 않습니다."),
     EXPIRE_AUTH_CODE(false,607,"인증번호가 만료 되었습니다."),
-    IMAGE_UPLOAD_ERROR(false, 610, "이미지 업로드에 실패하였습니다.");
+    MEMBER_BATCH_SIZE_EXCEEDED(false, 608, "한 번에 조회할 수 있는 유저 수를 초과하였습니다."),
+    INVALID_CURSOR(false, 609, "잘못된 페이지 커서입니다."),
+    IMAGE_UPLOAD_ERROR(false, 610, "이미지 업로드에 실패하였습니다."),
+    TOKEN_BATCH_SIZE_EXCEEDED(false, 611, "한 번에 확인할 수 있는 토큰 수를 초과하였습니다."),
+    INVALID_REFRESH_TOKEN(false, 612, "리프레시 토큰이 유효하지 않습니다."),
+    KAKAO_INVALID_TOKEN(false, 613, "카카오 토큰이 유효하지 않습니다."),
+    KAKAO_API_ERROR(false, 614, "카카오 사용자 정보를 가져오지 못했습니다. 잠시 후 다시 시도해주세요."),
+    MEMBER_ID_MISMATCH(false, 615, "요청한 유저 아이디가 로그인한 유저와 일치하지 않습니다."),
+    INVALID_INTERNAL_CALLER(false, 616, "내부 서비스만 호출할 수 있습니다."),
+    KAKAO_EMAIL_REQUIRED(false, 617, "카카오 계정 이메일 제공에 동의해야 가입할 수 있습니다."),
+    INVALID_ACCESS_TOKEN(false, 618, "액세스 토큰이 유효하지 않습니다.");
 
     private final boolean isSuccess;
     private final int code;
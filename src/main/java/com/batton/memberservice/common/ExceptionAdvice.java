@@ -1,16 +1,27 @@
 package com.batton.memberservice.common;
 
+import com.batton.memberservice.security.PasswordHashingRejectedException;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+@Slf4j
 @RequiredArgsConstructor
 @RestControllerAdvice
 public class ExceptionAdvice {
     @ExceptionHandler(BaseException.class)
     public BaseResponse<BaseResponseStatus> baseException(BaseException e) {
-        System.out.println("Handle CommonException:" + e.getMessage());
+        log.info("Handle CommonException: {}", e.getStatus());
 
         return new BaseResponse<>(e.getStatus());
     }
+
+    @ExceptionHandler(PasswordHashingRejectedException.class)
+    @ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
+    public BaseResponse<BaseResponseStatus> passwordHashingRejectedException(PasswordHashingRejectedException e) {
+        return new BaseResponse<>(BaseResponseStatus.TOO_MANY_REQUESTS);
+    }
 }
@@ -0,0 +1,42 @@
+package com.batton.memberservice.common;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static com.batton.memberservice.common.BaseResponseStatus.INVALID_CURSOR;
+
+/**
+ * 목록 조회용 불투명 커서 (마지막으로 조회한 유저 아이디를 인코딩)
+ */
+public final class KeysetCursor {
+    private static final String VERSION_PREFIX = "v1:";
+
+    private KeysetCursor() {
+    }
+
+    public static String encode(long lastId) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((VERSION_PREFIX + lastId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서가 없으면 첫 페이지(0) 반환
+     */
+    public static long decode(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return 0L;
+        }
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+
+            if (!decoded.startsWith(VERSION_PREFIX)) {
+                throw new BaseException(INVALID_CURSOR);
+            }
+
+            return Long.parseLong(decoded.substring(VERSION_PREFIX.length()));
+        } catch (IllegalArgumentException e) {
+            throw new BaseException(INVALID_CURSOR);
+        }
+    }
+}
@@ -1,13 +1,21 @@
 package com.batton.memberservice.config;
 
+import com.batton.memberservice.security.BoundedPasswordEncoder;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 
 @Configuration
 public class EncoderConfig {
     @Bean
-    public BCryptPasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public BoundedPasswordEncoder passwordEncoder(MeterRegistry meterRegistry,
+                                                  @Value("${security.password.bcrypt-strength:10}") int strength,
+                                                  @Value("${security.password.hash-pool-size:0}") int poolSize,
+                                                  @Value("${security.password.hash-queue-capacity:64}") int queueCapacity) {
+        // 기본 풀 크기는 CPU 코어 수 (해시는 CPU 작업)
+        int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+
+        return new BoundedPasswordEncoder(strength, threads, queueCapacity, meterRegistry);
     }
 }
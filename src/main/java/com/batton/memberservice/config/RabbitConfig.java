@@ -1,17 +1,17 @@
 package com.batton.memberservice.config;
 
+import com.batton.memberservice.mq.MemberEventRelay;
+import org.springframework.amqp.core.TopicExchange;
 import org.springframework.amqp.rabbit.connection.CachingConnectionFactory;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.rabbit.core.RabbitAdmin;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.cloud.context.config.annotation.RefreshScope;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 @Configuration
-@RefreshScope
 public class RabbitConfig {
     @Value("${spring.rabbitmq.host}")
     private String host;
@@ -33,6 +33,8 @@ public class RabbitConfig {
         connectionFactory.setPort(port);
         connectionFactory.setUsername(username);
         connectionFactory.setPassword(password);
+        // 유저 이벤트 발행 시 invoke + waitForConfirms 로 배치 confirm 대기
+        connectionFactory.setPublisherConfirmType(CachingConnectionFactory.ConfirmType.SIMPLE);
 
         return connectionFactory;
     }
@@ -42,6 +44,15 @@ public class RabbitConfig {
         return new RabbitAdmin(connectionFactory);
     }
 
+    /**
+     * 유저 변경 이벤트를 발행할 Topic Exchange (RabbitAdmin 이 연결 시 선언)
+     * @return TopicExchange 객체
+     */
+    @Bean
+    public TopicExchange memberEventExchange() {
+        return new TopicExchange(MemberEventRelay.EXCHANGE, true, false);
+    }
+
     /**
      * RabbitTemplate을 생성하여 반환
      * @param connectionFactory RabbitMQ와의 연결을 위한 ConnectionFactory 객체
@@ -1,14 +1,20 @@
 package com.batton.memberservice.config;
 
+import com.batton.memberservice.cache.EmailExistenceFilter;
+import com.batton.memberservice.cache.MemberProfileCache;
+import com.batton.memberservice.cache.MemberSearchIndex;
+import com.batton.memberservice.cache.MemberStatusCache;
+import com.batton.memberservice.security.RefreshTokenStore;
+import com.batton.memberservice.security.TokenDenylist;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cloud.context.config.annotation.RefreshScope;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
-import org.springframework.data.redis.repository.configuration.EnableRedisRepositories;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 
-@EnableRedisRepositories
 @Configuration
 @RefreshScope
 public class RedisConfig {
@@ -24,4 +30,28 @@ public class RedisConfig {
     public RedisConnectionFactory redisConnectionFactory() {
         return new LettuceConnectionFactory(redisHost, redisPort);
     }
+
+    /**
+     * 인스턴스 간 유저 변경(캐시 무효화), 가입 이메일 추가, 액세스 토큰 폐기 메시지 구독
+     */
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory redisConnectionFactory,
+                                                                       MemberProfileCache memberProfileCache,
+                                                                       MemberSearchIndex memberSearchIndex,
+                                                                       MemberStatusCache memberStatusCache,
+                                                                       EmailExistenceFilter emailExistenceFilter,
+                                                                       RefreshTokenStore refreshTokenStore,
+                                                                       TokenDenylist tokenDenylist) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        ChannelTopic memberChangedTopic = new ChannelTopic(MemberProfileCache.INVALIDATION_CHANNEL);
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(memberProfileCache, memberChangedTopic);
+        container.addMessageListener(memberSearchIndex, memberChangedTopic);
+        container.addMessageListener(memberStatusCache, memberChangedTopic);
+        container.addMessageListener(refreshTokenStore, memberChangedTopic);
+        container.addMessageListener(emailExistenceFilter, new ChannelTopic(EmailExistenceFilter.CHANNEL));
+        container.addMessageListener(tokenDenylist, new ChannelTopic(TokenDenylist.CHANNEL));
+
+        return container;
+    }
 }
@@ -1,10 +1,16 @@
 package com.batton.memberservice.config;
 
 import com.batton.memberservice.security.AuthenticationFilter;
+import com.batton.memberservice.security.HeaderAuthorizationFilter;
+import com.batton.memberservice.security.LoginThrottle;
 import com.batton.memberservice.security.TokenProvider;
+import com.batton.memberservice.security.VerifiedTokenCache;
 import com.batton.memberservice.security.service.RefreshTokenService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.builders.AuthenticationManagerBuilder;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -12,31 +18,46 @@ import org.springframework.security.config.annotation.web.configuration.EnableWe
 import org.springframework.security.config.annotation.web.configuration.WebSecurityConfigurerAdapter;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.core.userdetails.UserDetailsService;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.web.authentication.HttpStatusEntryPoint;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
 @Configuration
 @EnableWebSecurity
 @RequiredArgsConstructor
 public class SecurityConfig extends WebSecurityConfigurerAdapter {
     private final UserDetailsService userDetailsService;
-    private final BCryptPasswordEncoder bCryptPasswordEncoder;
+    private final PasswordEncoder passwordEncoder;
     private final TokenProvider tokenProvider;
     private final RefreshTokenService refreshTokenService;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final LoginThrottle loginThrottle;
+    private final ObjectMapper objectMapper;
 
     @Override
     protected void configure(AuthenticationManagerBuilder auth) throws Exception {
-        auth.userDetailsService(userDetailsService).passwordEncoder(bCryptPasswordEncoder);
+        // UserServiceImpl 이 UserDetailsPasswordService 이므로 로그인 성공 시 낮은 cost 해시는 다시 저장됨
+        auth.userDetailsService(userDetailsService).passwordEncoder(passwordEncoder);
     }
 
     @Override
     protected void configure(HttpSecurity http) throws Exception {
         AuthenticationFilter authenticationFilter =
-                new AuthenticationFilter(authenticationManagerBean(), tokenProvider, refreshTokenService);
+                new AuthenticationFilter(authenticationManagerBean(), tokenProvider, refreshTokenService, loginThrottle, objectMapper);
         authenticationFilter.setFilterProcessesUrl("/auth/login");
         http.csrf().disable();
         http.sessionManagement().sessionCreationPolicy(SessionCreationPolicy.STATELESS);
-        http.authorizeRequests().anyRequest().permitAll();
+        // 본인 정보 API 는 액세스 토큰 필수, 관리자용 목록 조회는 ROLE_ADMIN 필요
+        // 내부 서비스용 API(단건/일괄 조회, 내보내기)는 유저 토큰 없이 호출되므로 컨트롤러에서 InternalCallerVerifier 로 확인
+        http.authorizeRequests()
+                .antMatchers("/members/page").hasRole("ADMIN")
+                .antMatchers(HttpMethod.GET, "/members").authenticated()
+                .antMatchers(HttpMethod.PATCH, "/members").authenticated()
+                .antMatchers("/members/password", "/members/id").authenticated()
+                .anyRequest().permitAll();
+        http.exceptionHandling().authenticationEntryPoint(new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED));
         http.addFilter(authenticationFilter);
+        http.addFilterBefore(new HeaderAuthorizationFilter(verifiedTokenCache), UsernamePasswordAuthenticationFilter.class);
     }
 
     @Override
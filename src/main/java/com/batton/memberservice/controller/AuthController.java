@@ -5,7 +5,14 @@ import com.batton.memberservice.dto.GetKakaoKeyResDTO;
 import com.batton.memberservice.dto.PostEmailCheckReqDTO;
 import com.batton.memberservice.dto.PostEmailReqDTO;
 import com.batton.memberservice.dto.PostMemberReqDTO;
+import com.batton.memberservice.dto.PostTokenIntrospectReqDTO;
+import com.batton.memberservice.dto.PostTokenIntrospectResDTO;
+import com.batton.memberservice.dto.PostTokenLogoutReqDTO;
+import com.batton.memberservice.dto.PostTokenReissueReqDTO;
+import com.batton.memberservice.security.InternalCallerVerifier;
 import com.batton.memberservice.security.TokenDTO;
+import com.batton.memberservice.security.service.RefreshTokenService;
+import com.batton.memberservice.security.service.TokenIntrospectionService;
 import com.batton.memberservice.service.AuthService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -13,6 +20,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.web.bind.annotation.*;
+import java.util.List;
 
 @Slf4j
 @RestController
@@ -20,6 +28,9 @@ import org.springframework.web.bind.annotation.*;
 @RequestMapping("/auth")
 public class AuthController {
     private final AuthService authService;
+    private final TokenIntrospectionService tokenIntrospectionService;
+    private final RefreshTokenService refreshTokenService;
+    private final InternalCallerVerifier internalCallerVerifier;
 
     /**
      * 회원가입 API
@@ -31,7 +42,7 @@ public class AuthController {
     @Operation(summary = "회원가입 요청")
     public BaseResponse<String> signupMember(@RequestBody PostMemberReqDTO postMemberReqDTO) {
         String signupMemberRes = authService.signupMember(postMemberReqDTO);
-        log.info("signupMember 요청: " + signupMemberRes);
+        log.info("signupMember 요청: {}", signupMemberRes);
 
         return new BaseResponse<>(signupMemberRes);
     }
@@ -90,4 +101,57 @@ public class AuthController {
 
         return new BaseResponse<>(getKakaoKeyResDTO);
     }
+
+    /**
+     * 토큰 재발급 API
+     * @param postTokenReissueReqDTO 만료된 액세스 토큰과 리프레시 토큰
+     * @return 새 액세스 토큰, 리프레시 토큰
+     */
+    @PostMapping("/reissue")
+    @Operation(summary = "토큰 재발급")
+    private BaseResponse<TokenDTO.TokenData> reissueToken(@RequestBody PostTokenReissueReqDTO postTokenReissueReqDTO) {
+        TokenDTO.TokenData tokenData = refreshTokenService.refreshToken(postTokenReissueReqDTO.getAccessToken(),
+                postTokenReissueReqDTO.getRefreshToken());
+
+        return new BaseResponse<>(tokenData);
+    }
+
+    /**
+     * 로그아웃 API
+     * 리프레시 토큰은 바로 폐기하고, 액세스 토큰은 만료 전까지 모든 인스턴스에서 거절됨
+     * @param postTokenLogoutReqDTO 액세스 토큰과 리프레시 토큰
+     * @return String
+     */
+    @PostMapping("/logout")
+    @Operation(summary = "로그아웃")
+    @ApiResponses({
+            @ApiResponse(responseCode = "612", description = "리프레시 토큰이 유효하지 않습니다."),
+            @ApiResponse(responseCode = "618", description = "액세스 토큰이 유효하지 않습니다.")
+    })
+    private BaseResponse<String> logout(@RequestBody PostTokenLogoutReqDTO postTokenLogoutReqDTO) {
+        refreshTokenService.logoutToken(postTokenLogoutReqDTO.getAccessToken(), postTokenLogoutReqDTO.getRefreshToken());
+
+        return new BaseResponse<>("로그아웃 되었습니다.");
+    }
+
+    /**
+     * 액세스 토큰 일괄 검증 API (게이트웨이 내부용)
+     * @param internalToken 내부 호출자 공유 비밀 값 (security.internal-secret)
+     * @param postTokenIntrospectReqDTO 검증할 토큰 목록 (최대 1000개)
+     * @return 요청 순서대로 토큰별 상태, 유저 아이디, 권한, 만료 시각
+     */
+    @PostMapping("/introspect")
+    @Operation(summary = "토큰 일괄 검증")
+    @ApiResponses({
+            @ApiResponse(responseCode = "611", description = "한 번에 확인할 수 있는 토큰 수를 초과하였습니다."),
+            @ApiResponse(responseCode = "616", description = "내부 서비스만 호출할 수 있습니다.")
+    })
+    private BaseResponse<List<PostTokenIntrospectResDTO>> introspectTokens(
+            @RequestHeader(value = InternalCallerVerifier.HEADER, required = false) String internalToken,
+            @RequestBody PostTokenIntrospectReqDTO postTokenIntrospectReqDTO) {
+        internalCallerVerifier.check(internalToken);
+        List<PostTokenIntrospectResDTO> result = tokenIntrospectionService.introspect(postTokenIntrospectReqDTO.getTokens());
+
+        return new BaseResponse<>(result);
+    }
 }
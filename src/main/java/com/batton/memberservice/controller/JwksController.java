@@ -0,0 +1,30 @@
+package com.batton.memberservice.controller;
+
+import com.batton.memberservice.security.SigningKeyRing;
+import io.swagger.v3.oas.annotations.Operation;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@RestController
+@RequiredArgsConstructor
+public class JwksController {
+    private final SigningKeyRing signingKeyRing;
+
+    /**
+     * 액세스 토큰 검증용 공개 키 목록 API (JWK Set)
+     * 게이트웨이 및 다른 서비스가 캐시하여 토큰을 로컬에서 검증함
+     * @return JWK Set
+     */
+    @GetMapping("/.well-known/jwks.json")
+    @Operation(summary = "토큰 검증 공개 키 목록 (JWKS)")
+    private ResponseEntity<Map<String, Object>> getJwks() {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(5, TimeUnit.MINUTES).cachePublic())
+                .body(signingKeyRing.current().getJwtKeyStore().toJwks());
+    }
+}
@@ -1,18 +1,36 @@
 package com.batton.memberservice.controller;
 
+import com.batton.memberservice.cache.MemberProfile;
+import com.batton.memberservice.common.BaseException;
 import com.batton.memberservice.common.BaseResponse;
 import com.batton.memberservice.dto.GetMemberIdResDTO;
 import com.batton.memberservice.dto.GetMemberInfoResDTO;
+import com.batton.memberservice.dto.GetMemberPageResDTO;
 import com.batton.memberservice.dto.PatchMemberPasswordReqDTO;
 import com.batton.memberservice.dto.client.GetMemberResDTO;
+import com.batton.memberservice.enums.Authority;
+import com.batton.memberservice.enums.Status;
+import com.batton.memberservice.security.InternalCallerVerifier;
+import com.batton.memberservice.security.SecurityUtil;
+import com.batton.memberservice.service.MemberExportService;
 import com.batton.memberservice.service.MemberService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+import static com.batton.memberservice.common.BaseResponseStatus.MEMBER_ID_MISMATCH;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -20,35 +38,106 @@ import org.springframework.web.multipart.MultipartFile;
 @RequestMapping("/members")
 public class MemberController {
     private final MemberService memberService;
+    private final MemberExportService memberExportService;
+    private final InternalCallerVerifier internalCallerVerifier;
 
     /**
      * 유저 정보 조회 API(Feign Client)
+     * If-None-Match / If-Modified-Since 가 일치하면 본문 없이 304 응답
+     * @param internalToken 내부 호출자 공유 비밀 값
      * @param memberId 정보를 조회할 유저 아이디
      * @return GetMemberResDTO
      * */
     @GetMapping("/{memberId}")
     @Operation(summary = "유저 정보 조회 feign client")
     @ApiResponses({
-            @ApiResponse(responseCode = "600", description = "유저 아이디 값을 확인해주세요.")
+            @ApiResponse(responseCode = "304", description = "변경 사항이 없습니다."),
+            @ApiResponse(responseCode = "600", description = "유저 아이디 값을 확인해주세요."),
+            @ApiResponse(responseCode = "616", description = "내부 서비스만 호출할 수 있습니다.")
     })
-    private GetMemberResDTO getMember(@PathVariable("memberId") Long memberId) {
-        GetMemberResDTO getMemberResDTO = memberService.getMember(memberId);
+    private GetMemberResDTO getMember(@RequestHeader(value = InternalCallerVerifier.HEADER, required = false) String internalToken,
+                                      @PathVariable("memberId") Long memberId, WebRequest webRequest) {
+        internalCallerVerifier.check(internalToken);
+        MemberProfile memberProfile = memberService.getMemberProfile(memberId);
+
+        if (webRequest.checkNotModified(memberProfile.entityTag(), memberProfile.lastModifiedMillis())) {
+            return null;
+        }
+        GetMemberResDTO getMemberResDTO = GetMemberResDTO.toDTO(memberProfile);
 
         return getMemberResDTO;
     }
 
+    /**
+     * 유저 정보 일괄 조회 API(Feign Client)
+     * @param internalToken 내부 호출자 공유 비밀 값
+     * @param memberIds 정보를 조회할 유저 아이디 목록
+     * @return Map<Long, GetMemberResDTO> 존재하지 않거나 탈퇴한 유저는 null
+     * */
+    @PostMapping("/batch")
+    @Operation(summary = "유저 정보 일괄 조회 feign client")
+    @ApiResponses({
+            @ApiResponse(responseCode = "608", description = "한 번에 조회할 수 있는 유저 수를 초과하였습니다."),
+            @ApiResponse(responseCode = "616", description = "내부 서비스만 호출할 수 있습니다.")
+    })
+    private Map<Long, GetMemberResDTO> getMembers(@RequestHeader(value = InternalCallerVerifier.HEADER, required = false) String internalToken,
+                                                  @RequestBody List<Long> memberIds) {
+        internalCallerVerifier.check(internalToken);
+        Map<Long, GetMemberResDTO> getMemberResDTOMap = memberService.getMembers(memberIds);
+
+        return getMemberResDTOMap;
+    }
+
+    /**
+     * 유저 공개 프로필 전체 내보내기 API (내부용, NDJSON)
+     * @param internalToken 내부 호출자 공유 비밀 값
+     * @param afterId 이어받을 경우 마지막으로 받은 유저 아이디
+     * @param acceptEncoding gzip 포함 시 압축하여 응답
+     */
+    @GetMapping("/export")
+    @Operation(summary = "유저 공개 프로필 전체 내보내기 (NDJSON)")
+    @ApiResponses({
+            @ApiResponse(responseCode = "616", description = "내부 서비스만 호출할 수 있습니다.")
+    })
+    private void exportMembers(@RequestHeader(value = InternalCallerVerifier.HEADER, required = false) String internalToken,
+                               @RequestParam(value = "afterId", defaultValue = "0") long afterId,
+                               @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+                               HttpServletResponse response) throws IOException {
+        internalCallerVerifier.check(internalToken);
+        boolean gzip = acceptEncoding != null && acceptEncoding.contains("gzip");
+        response.setContentType("application/x-ndjson");
+        response.setCharacterEncoding("UTF-8");
+
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+            try (OutputStream outputStream = new GZIPOutputStream(response.getOutputStream(), true)) {
+                memberExportService.exportProfiles(afterId, outputStream);
+            }
+        } else {
+            memberExportService.exportProfiles(afterId, response.getOutputStream());
+        }
+    }
+
     /**
      * 유저 정보 조회 API
-     * @param memberId 정보를 조회할 유저 아이디
+     * If-None-Match / If-Modified-Since 가 일치하면 본문 없이 304 응답
+     * @param memberId 정보를 조회할 유저 아이디 (생략 시 로그인한 유저)
      * @return GetMemberResDTO
      * */
     @GetMapping
     @Operation(summary = "유저 정보 조회")
     @ApiResponses({
-            @ApiResponse(responseCode = "600", description = "유저 아이디 값을 확인해주세요.")
+            @ApiResponse(responseCode = "304", description = "변경 사항이 없습니다."),
+            @ApiResponse(responseCode = "600", description = "유저 아이디 값을 확인해주세요."),
+            @ApiResponse(responseCode = "615", description = "요청한 유저 아이디가 로그인한 유저와 일치하지 않습니다.")
     })
-    private BaseResponse<GetMemberInfoResDTO> getMemberInfo(@RequestHeader Long memberId) {
-        GetMemberInfoResDTO getMemberInfoResDTO = memberService.getMemberInfo(memberId);
+    private BaseResponse<GetMemberInfoResDTO> getMemberInfo(@RequestHeader(required = false) Long memberId, WebRequest webRequest) {
+        MemberProfile memberProfile = memberService.getMemberProfile(currentMemberId(memberId));
+
+        if (webRequest.checkNotModified(memberProfile.entityTag(), memberProfile.lastModifiedMillis())) {
+            return null;
+        }
+        GetMemberInfoResDTO getMemberInfoResDTO = GetMemberInfoResDTO.toDTO(memberProfile);
 
         return new BaseResponse<>(getMemberInfoResDTO);
     }
@@ -69,9 +158,46 @@ public class MemberController {
         return new BaseResponse<>(getMemberInfoResDTO);
     }
 
+    /**
+     * 유저 목록 조회 API (관리자용)
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 생략)
+     * @param status 상태 필터 (생략 시 전체)
+     * @param authority 권한 필터 (생략 시 전체)
+     * @param size 페이지 크기 (최대 100)
+     * @return GetMemberPageResDTO
+     */
+    @GetMapping("/page")
+    @Operation(summary = "유저 목록 조회 (커서 페이지네이션)")
+    @ApiResponses({
+            @ApiResponse(responseCode = "609", description = "잘못된 페이지 커서입니다.")
+    })
+    private BaseResponse<GetMemberPageResDTO> getMemberPage(@RequestParam(value = "cursor", required = false) String cursor,
+                                                            @RequestParam(value = "status", required = false) Status status,
+                                                            @RequestParam(value = "authority", required = false) Authority authority,
+                                                            @RequestParam(value = "size", defaultValue = "20") int size) {
+        GetMemberPageResDTO getMemberPageResDTO = memberService.getMemberPage(cursor, status, authority, size);
+
+        return new BaseResponse<>(getMemberPageResDTO);
+    }
+
+    /**
+     * 추가할 멤버 검색 API
+     * @param keyword 검색할 이메일 또는 닉네임 접두사
+     * @param size 최대 조회 개수 (최대 20)
+     * @return List<GetMemberInfoResDTO>
+     */
+    @GetMapping("/search")
+    @Operation(summary = "추가할 멤버 검색 (이메일/닉네임 접두사)")
+    private BaseResponse<List<GetMemberInfoResDTO>> searchMembers(@RequestParam("keyword") String keyword,
+                                                                 @RequestParam(value = "size", defaultValue = "10") int size) {
+        List<GetMemberInfoResDTO> getMemberInfoResDTOList = memberService.searchMembers(keyword, size);
+
+        return new BaseResponse<>(getMemberInfoResDTOList);
+    }
+
     /**
      * 유저 정보 수정 API
-     * @param memberId 정보를 수정할 유저 아이디
+     * @param memberId 정보를 수정할 유저 아이디 (생략 시 로그인한 유저)
      * @param profileImage 변경할 이미지
      * @param nickname 변경할 닉네임
      * @return String
@@ -79,18 +205,20 @@ public class MemberController {
     @PatchMapping
     @Operation(summary = "유저 정보 수정")
     @ApiResponses({
-            @ApiResponse(responseCode = "600", description = "유저 아이디 값을 확인해주세요.")
+            @ApiResponse(responseCode = "600", description = "유저 아이디 값을 확인해주세요."),
+            @ApiResponse(responseCode = "615", description = "요청한 유저 아이디가 로그인한 유저와 일치하지 않습니다.")
     })
-    private BaseResponse<String> patchMember(@RequestHeader Long memberId, @RequestPart(value = "profileImg", required = false) MultipartFile profileImage,
+    private BaseResponse<String> patchMember(@RequestHeader(required = false) Long memberId,
+                                             @RequestPart(value = "profileImg", required = false) MultipartFile profileImage,
                                              @RequestPart(value = "nickname", required = false) String nickname) {
-        String patchMemberRes = memberService.patchMember(memberId, profileImage, nickname);
+        String patchMemberRes = memberService.patchMember(currentMemberId(memberId), profileImage, nickname);
 
         return new BaseResponse<>(patchMemberRes);
     }
 
     /**
      * 유저 비밀번호 수정 API
-     * @param memberId 비밀번호를 수정할 유저 아이디
+     * @param memberId 비밀번호를 수정할 유저 아이디 (생략 시 로그인한 유저)
      * @param patchMemberPasswordReqDTO 비밀번호 수정 요청 바디에 포함될 DTO
      * @return String
      * */
@@ -99,28 +227,47 @@ public class MemberController {
     @ApiResponses({
             @ApiResponse(responseCode = "600", description = "유저 아이디 값을 확인해주세요."),
             @ApiResponse(responseCode = "602", description = "두 비밀번호를 같게 입력해주세요."),
-            @ApiResponse(responseCode = "603", description = "비밀번호가 일치하지 않습니다.")
+            @ApiResponse(responseCode = "603", description = "비밀번호가 일치하지 않습니다."),
+            @ApiResponse(responseCode = "615", description = "요청한 유저 아이디가 로그인한 유저와 일치하지 않습니다.")
 
     })
-    private BaseResponse<String> patchMemberPassword(@RequestHeader Long memberId, @RequestBody PatchMemberPasswordReqDTO patchMemberPasswordReqDTO) {
-        String patchMemberPasswordRes = memberService.patchMemberPassword(memberId, patchMemberPasswordReqDTO);
+    private BaseResponse<String> patchMemberPassword(@RequestHeader(required = false) Long memberId,
+                                                     @RequestBody PatchMemberPasswordReqDTO patchMemberPasswordReqDTO) {
+        String patchMemberPasswordRes = memberService.patchMemberPassword(currentMemberId(memberId), patchMemberPasswordReqDTO);
 
         return new BaseResponse<>(patchMemberPasswordRes);
     }
 
     /**
      * 멤버 아이디 조회 API
-     * @param memberId
+     * @param memberId 조회할 유저 아이디 (생략 시 로그인한 유저)
      * @return memberId
      */
     @GetMapping("/id")
     @Operation(summary = "멤버 아이디(memberId) 요청")
-    private BaseResponse<GetMemberIdResDTO> getMemberId(@RequestHeader Long memberId) {
-        GetMemberIdResDTO getMemberIdResDTO = new GetMemberIdResDTO(memberId);
+    @ApiResponses({
+            @ApiResponse(responseCode = "615", description = "요청한 유저 아이디가 로그인한 유저와 일치하지 않습니다.")
+    })
+    private BaseResponse<GetMemberIdResDTO> getMemberId(@RequestHeader(required = false) Long memberId) {
+        GetMemberIdResDTO getMemberIdResDTO = new GetMemberIdResDTO(currentMemberId(memberId));
 
         return new BaseResponse<>(getMemberIdResDTO);
     }
 
+    /**
+     * 액세스 토큰의 유저 아이디 조회
+     * memberId 헤더가 있으면 토큰의 유저와 같아야 함
+     */
+    private static Long currentMemberId(Long memberId) {
+        Long currentMemberId = SecurityUtil.getCurrentMemberId();
+
+        if (memberId != null && !memberId.equals(currentMemberId)) {
+            throw new BaseException(MEMBER_ID_MISMATCH);
+        }
+
+        return currentMemberId;
+    }
+
     /**
      * 멤버 탈퇴하기 API
      * @param memberId 탈퇴할 멤버 아이디
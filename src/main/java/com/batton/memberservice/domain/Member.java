@@ -7,11 +7,17 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import javax.persistence.*;
+import java.util.Locale;
 
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "member")
+@Table(name = "member", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_member_email_key", columnNames = "email_key")
+}, indexes = {
+        @Index(name = "idx_member_status_id", columnList = "status, member_id"),
+        @Index(name = "idx_member_authority_id", columnList = "authority, member_id")
+})
 public class Member extends BaseEntity {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -19,6 +25,9 @@ public class Member extends BaseEntity {
     private Long id;
     @Column(nullable = false, unique = true)
     private String email;
+    // 소문자로 정규화한 이메일 (조회용 키)
+    @Column(name = "email_key")
+    private String emailKey;
     private String nickname;
     private String password;
     @Enumerated(EnumType.STRING)
@@ -31,6 +40,7 @@ public class Member extends BaseEntity {
     public Member(Long id, String email, String nickname, String password, Authority authority, String profileImage, Status status) {
         this.id = id;
         this.email = email;
+        this.emailKey = toEmailKey(email);
         this.nickname = nickname;
         this.password = password;
         this.authority = authority;
@@ -50,4 +60,15 @@ public class Member extends BaseEntity {
     public void updatePassword(String password) {
         this.password=password;
     }
+
+    /**
+     * 이메일 조회 키 생성 (앞뒤 공백 제거 후 소문자 변환)
+     */
+    public static String toEmailKey(String email) {
+        if (email == null) {
+            return null;
+        }
+
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,46 @@
+package com.batton.memberservice.domain;
+
+import com.batton.memberservice.enums.MemberEventType;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 발행 대기 중인 유저 변경 이벤트 (transactional outbox)
+ * 유저 변경과 같은 트랜잭션에 저장되고, 커밋된 행만 릴레이가 발행함
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "member_outbox", indexes = {
+        @Index(name = "idx_member_outbox_published", columnList = "published_at, outbox_id")
+})
+public class MemberOutbox extends BaseEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "outbox_id")
+    private Long id;
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private MemberEventType eventType;
+    @Column(nullable = false)
+    private Long memberId;
+    @Column(nullable = false, length = 2000)
+    private String payload;
+    @Column(name = "published_at")
+    private LocalDateTime publishedAt;
+
+    @Builder
+    public MemberOutbox(MemberEventType eventType, Long memberId, String payload) {
+        this.eventType = eventType;
+        this.memberId = memberId;
+        this.payload = payload;
+    }
+
+    public void markPublished(LocalDateTime publishedAt) {
+        this.publishedAt = publishedAt;
+    }
+}
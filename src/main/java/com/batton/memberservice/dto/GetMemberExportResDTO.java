@@ -0,0 +1,28 @@
+package com.batton.memberservice.dto;
+
+import com.batton.memberservice.enums.Status;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import java.time.LocalDateTime;
+
+@Getter
+@ToString
+@NoArgsConstructor
+public class GetMemberExportResDTO {
+    private Long memberId;
+    private String nickname;
+    private String profileImage;
+    private Status status;
+    private LocalDateTime updatedAt;
+
+    @Builder
+    public GetMemberExportResDTO(Long memberId, String nickname, String profileImage, Status status, LocalDateTime updatedAt) {
+        this.memberId = memberId;
+        this.nickname = nickname;
+        this.profileImage = profileImage;
+        this.status = status;
+        this.updatedAt = updatedAt;
+    }
+}
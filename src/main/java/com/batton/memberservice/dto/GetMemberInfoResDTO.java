@@ -1,5 +1,6 @@
 package com.batton.memberservice.dto;
 
+import com.batton.memberservice.cache.MemberProfile;
 import com.batton.memberservice.domain.Member;
 import lombok.Builder;
 import lombok.Getter;
@@ -31,4 +32,13 @@ public class GetMemberInfoResDTO {
                 .email(member.getEmail())
                 .build();
     }
+
+    public static GetMemberInfoResDTO toDTO(MemberProfile memberProfile) {
+        return GetMemberInfoResDTO.builder()
+                .memberId(memberProfile.getMemberId())
+                .nickname(memberProfile.getNickname())
+                .profileImage(memberProfile.getProfileImage())
+                .email(memberProfile.getEmail())
+                .build();
+    }
 }
@@ -0,0 +1,30 @@
+package com.batton.memberservice.dto;
+
+import com.batton.memberservice.enums.Authority;
+import com.batton.memberservice.enums.Status;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+@Getter
+@ToString
+@NoArgsConstructor
+public class GetMemberListResDTO {
+    private Long memberId;
+    private String email;
+    private String nickname;
+    private String profileImage;
+    private Authority authority;
+    private Status status;
+
+    @Builder
+    public GetMemberListResDTO(Long memberId, String email, String nickname, String profileImage, Authority authority, Status status) {
+        this.memberId = memberId;
+        this.email = email;
+        this.nickname = nickname;
+        this.profileImage = profileImage;
+        this.authority = authority;
+        this.status = status;
+    }
+}
@@ -0,0 +1,22 @@
+package com.batton.memberservice.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import java.util.List;
+
+@Getter
+@ToString
+@NoArgsConstructor
+public class GetMemberPageResDTO {
+    private List<GetMemberListResDTO> members;
+    // 다음 페이지 조회용 커서 (마지막 페이지면 null)
+    private String nextCursor;
+
+    @Builder
+    public GetMemberPageResDTO(List<GetMemberListResDTO> members, String nextCursor) {
+        this.members = members;
+        this.nextCursor = nextCursor;
+    }
+}
@@ -0,0 +1,17 @@
+package com.batton.memberservice.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+public class PostTokenIntrospectReqDTO {
+    private List<String> tokens;
+
+    @Builder
+    public PostTokenIntrospectReqDTO(List<String> tokens) {
+        this.tokens = tokens;
+    }
+}
@@ -0,0 +1,32 @@
+package com.batton.memberservice.dto;
+
+import com.batton.memberservice.enums.TokenStatus;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * 토큰 하나의 검증 결과 (INVALID 이면 status 만 응답)
+ */
+@Getter
+@ToString
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class PostTokenIntrospectResDTO {
+    private TokenStatus status;
+    private Long memberId;
+    private List<String> roles;
+    private Date expiration;
+
+    @Builder
+    public PostTokenIntrospectResDTO(TokenStatus status, Long memberId, List<String> roles, Date expiration) {
+        this.status = status;
+        this.memberId = memberId;
+        this.roles = roles;
+        this.expiration = expiration;
+    }
+}
@@ -0,0 +1,18 @@
+package com.batton.memberservice.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class PostTokenReissueReqDTO {
+    private String accessToken;
+    private String refreshToken;
+
+    @Builder
+    public PostTokenReissueReqDTO(String accessToken, String refreshToken) {
+        this.accessToken = accessToken;
+        this.refreshToken = refreshToken;
+    }
+}
@@ -1,5 +1,6 @@
 package com.batton.memberservice.dto.client;
 
+import com.batton.memberservice.cache.MemberProfile;
 import com.batton.memberservice.domain.Member;
 import lombok.Builder;
 import lombok.Getter;
@@ -25,5 +26,11 @@ public class GetMemberResDTO {
                 .profileImage(member.getProfileImage())
                 .build();
     }
-}
 
+    public static GetMemberResDTO toDTO(MemberProfile memberProfile) {
+        return GetMemberResDTO.builder()
+                .nickname(memberProfile.getNickname())
+                .profileImage(memberProfile.getProfileImage())
+                .build();
+    }
+}
@@ -1,5 +1,49 @@
 package com.batton.memberservice.enums;
 
+import lombok.Getter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 유저 권한 (bit 는 압축 액세스 토큰의 r 클레임 비트, 한 번 정하면 바꾸지 않음)
+ */
+@Getter
 public enum Authority {
-    ROLE_USER, ROLE_ADMIN
-}
\ No newline at end of file
+    ROLE_USER(1), ROLE_ADMIN(1 << 1);
+
+    private final int bit;
+
+    Authority(int bit) {
+        this.bit = bit;
+    }
+
+    /**
+     * 권한 이름 목록을 비트 마스크로 변환 (알 수 없는 권한이 있으면 -1)
+     */
+    public static int toMask(Collection<String> roles) {
+        int mask = 0;
+
+        for (String role : roles) {
+            try {
+                mask |= valueOf(role).bit;
+            } catch (IllegalArgumentException e) {
+                return -1;
+            }
+        }
+
+        return mask;
+    }
+
+    public static List<String> fromMask(int mask) {
+        List<String> roles = new ArrayList<>(2);
+
+        for (Authority authority : values()) {
+            if ((mask & authority.bit) != 0) {
+                roles.add(authority.name());
+            }
+        }
+
+        return roles;
+    }
+}
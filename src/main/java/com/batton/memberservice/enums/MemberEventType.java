@@ -0,0 +1,20 @@
+package com.batton.memberservice.enums;
+
+import lombok.Getter;
+
+/**
+ * 유저 변경 이벤트 종류 (member-exchange 라우팅 키)
+ */
+@Getter
+public enum MemberEventType {
+    MEMBER_CREATED("member.created"),
+    PROFILE_UPDATED("member.profile.updated"),
+    PASSWORD_CHANGED("member.password.changed"),
+    DISABLED("member.disabled");
+
+    private final String routingKey;
+
+    MemberEventType(String routingKey) {
+        this.routingKey = routingKey;
+    }
+}
@@ -0,0 +1,8 @@
+package com.batton.memberservice.enums;
+
+/**
+ * 토큰 검증 결과
+ */
+public enum TokenStatus {
+    ACTIVE, EXPIRED, REVOKED, MEMBER_DISABLED, INVALID
+}
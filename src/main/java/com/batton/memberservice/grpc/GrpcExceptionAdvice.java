@@ -0,0 +1,30 @@
+package com.batton.memberservice.grpc;
+
+import com.batton.memberservice.common.BaseException;
+import io.grpc.Status;
+import net.devh.boot.grpc.server.advice.GrpcAdvice;
+import net.devh.boot.grpc.server.advice.GrpcExceptionHandler;
+
+/**
+ * gRPC 호출 중 발생한 BaseException 을 gRPC 상태 코드로 변환 (ExceptionAdvice 와 같은 역할)
+ */
+@GrpcAdvice
+public class GrpcExceptionAdvice {
+    @GrpcExceptionHandler(BaseException.class)
+    public Status baseException(BaseException e) {
+        Status status;
+
+        switch (e.getStatus()) {
+            case MEMBER_INVALID_USER_ID:
+                status = Status.NOT_FOUND;
+                break;
+            case MEMBER_BATCH_SIZE_EXCEEDED:
+                status = Status.INVALID_ARGUMENT;
+                break;
+            default:
+                status = Status.FAILED_PRECONDITION;
+        }
+
+        return status.withDescription(e.getStatus().getCode() + " " + e.getStatus().getMessage());
+    }
+}
@@ -0,0 +1,37 @@
+package com.batton.memberservice.grpc;
+
+import com.batton.memberservice.common.BaseException;
+import com.batton.memberservice.security.InternalCallerVerifier;
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.Status;
+import lombok.RequiredArgsConstructor;
+import net.devh.boot.grpc.server.interceptor.GrpcGlobalServerInterceptor;
+
+/**
+ * gRPC 호출도 REST 내부용 API 와 같은 공유 비밀 값(x-internal-token 메타데이터)으로 내부 호출자 확인
+ */
+@GrpcGlobalServerInterceptor
+@RequiredArgsConstructor
+public class InternalCallerInterceptor implements ServerInterceptor {
+    public static final Metadata.Key<String> INTERNAL_TOKEN =
+            Metadata.Key.of(InternalCallerVerifier.HEADER, Metadata.ASCII_STRING_MARSHALLER);
+    private final InternalCallerVerifier internalCallerVerifier;
+
+    @Override
+    public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(ServerCall<ReqT, RespT> call, Metadata headers,
+                                                                 ServerCallHandler<ReqT, RespT> next) {
+        try {
+            internalCallerVerifier.check(headers.get(INTERNAL_TOKEN));
+        } catch (BaseException e) {
+            call.close(Status.UNAUTHENTICATED.withDescription(e.getStatus().getCode() + " " + e.getStatus().getMessage()), new Metadata());
+
+            return new ServerCall.Listener<>() {
+            };
+        }
+
+        return next.startCall(call, headers);
+    }
+}
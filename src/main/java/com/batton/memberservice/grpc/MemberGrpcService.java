@@ -0,0 +1,95 @@
+package com.batton.memberservice.grpc;
+
+import com.batton.memberservice.cache.MemberProfile;
+import com.batton.memberservice.common.BaseException;
+import com.batton.memberservice.dto.client.GetMemberResDTO;
+import com.batton.memberservice.grpc.proto.GetMemberRequest;
+import com.batton.memberservice.grpc.proto.GetMembersRequest;
+import com.batton.memberservice.grpc.proto.GetMembersResponse;
+import com.batton.memberservice.grpc.proto.MemberLookupGrpc;
+import com.batton.memberservice.grpc.proto.MemberLookupResult;
+import com.batton.memberservice.grpc.proto.MemberMessage;
+import com.batton.memberservice.service.MemberService;
+import io.grpc.stub.StreamObserver;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.devh.boot.grpc.server.service.GrpcService;
+import java.util.Map;
+
+import static com.batton.memberservice.common.BaseResponseStatus.MEMBER_INVALID_USER_ID;
+
+/**
+ * 내부 서비스용 유저 조회 gRPC API
+ * REST 와 같은 MemberService 로직(프로필 캐시, 일괄 조회)을 그대로 사용함
+ */
+@Slf4j
+@GrpcService
+@RequiredArgsConstructor
+public class MemberGrpcService extends MemberLookupGrpc.MemberLookupImplBase {
+    private final MemberService memberService;
+
+    @Override
+    public void getMember(GetMemberRequest request, StreamObserver<MemberMessage> responseObserver) {
+        MemberProfile memberProfile = memberService.findMemberProfile(request.getMemberId())
+                .orElseThrow(() -> new BaseException(MEMBER_INVALID_USER_ID));
+
+        responseObserver.onNext(toMessage(memberProfile.getMemberId(), GetMemberResDTO.toDTO(memberProfile)));
+        responseObserver.onCompleted();
+    }
+
+    @Override
+    public void getMembers(GetMembersRequest request, StreamObserver<GetMembersResponse> responseObserver) {
+        Map<Long, GetMemberResDTO> getMemberResDTOMap = memberService.getMembers(request.getMemberIdsList());
+        GetMembersResponse.Builder response = GetMembersResponse.newBuilder();
+
+        getMemberResDTOMap.forEach((memberId, getMemberResDTO) -> {
+            if (getMemberResDTO == null) {
+                response.addMissingIds(memberId);
+            } else {
+                response.addMembers(toMessage(memberId, getMemberResDTO));
+            }
+        });
+        responseObserver.onNext(response.build());
+        responseObserver.onCompleted();
+    }
+
+    /**
+     * 요청이 들어오는 대로 조회하여 같은 순서로 응답 (없는 유저는 found=false)
+     */
+    @Override
+    public StreamObserver<GetMemberRequest> streamMembers(StreamObserver<MemberLookupResult> responseObserver) {
+        return new StreamObserver<>() {
+            @Override
+            public void onNext(GetMemberRequest request) {
+                MemberLookupResult.Builder result = MemberLookupResult.newBuilder().setMemberId(request.getMemberId());
+
+                memberService.findMemberProfile(request.getMemberId()).ifPresent(memberProfile -> result
+                        .setFound(true)
+                        .setMember(toMessage(memberProfile.getMemberId(), GetMemberResDTO.toDTO(memberProfile))));
+                responseObserver.onNext(result.build());
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                log.debug("유저 조회 스트림이 클라이언트에 의해 종료되었습니다. {}", t.getMessage());
+            }
+
+            @Override
+            public void onCompleted() {
+                responseObserver.onCompleted();
+            }
+        };
+    }
+
+    private static MemberMessage toMessage(Long memberId, GetMemberResDTO getMemberResDTO) {
+        MemberMessage.Builder message = MemberMessage.newBuilder()
+                .setMemberId(memberId)
+                .setNickname(getMemberResDTO.getNickname() == null ? "" : getMemberResDTO.getNickname());
+
+        if (getMemberResDTO.getProfileImage() != null) {
+            message.setProfileImage(getMemberResDTO.getProfileImage());
+        }
+
+        return message.build();
+    }
+}
@@ -0,0 +1,42 @@
+package com.batton.memberservice.mq;
+
+import com.batton.memberservice.domain.Member;
+import com.batton.memberservice.enums.MemberEventType;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import java.time.LocalDateTime;
+
+/**
+ * member-exchange 로 발행되는 유저 변경 이벤트 본문
+ */
+@Getter
+@ToString
+@NoArgsConstructor
+public class MemberEvent {
+    private MemberEventType eventType;
+    private Long memberId;
+    private String nickname;
+    private String profileImage;
+    private LocalDateTime occurredAt;
+
+    @Builder
+    public MemberEvent(MemberEventType eventType, Long memberId, String nickname, String profileImage, LocalDateTime occurredAt) {
+        this.eventType = eventType;
+        this.memberId = memberId;
+        this.nickname = nickname;
+        this.profileImage = profileImage;
+        this.occurredAt = occurredAt;
+    }
+
+    public static MemberEvent of(MemberEventType eventType, Member member) {
+        return MemberEvent.builder()
+                .eventType(eventType)
+                .memberId(member.getId())
+                .nickname(member.getNickname())
+                .profileImage(member.getProfileImage())
+                .occurredAt(LocalDateTime.now())
+                .build();
+    }
+}
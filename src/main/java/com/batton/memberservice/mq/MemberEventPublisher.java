@@ -0,0 +1,38 @@
+package com.batton.memberservice.mq;
+
+import com.batton.memberservice.domain.Member;
+import com.batton.memberservice.domain.MemberOutbox;
+import com.batton.memberservice.enums.MemberEventType;
+import com.batton.memberservice.repository.MemberOutboxRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 유저 변경 이벤트를 outbox 에 기록
+ * 유저 변경과 같은 트랜잭션에서만 호출 가능하며, 실제 발행은 MemberEventRelay 가 커밋 이후에 수행함
+ */
+@Service
+@RequiredArgsConstructor
+public class MemberEventPublisher {
+    private final MemberOutboxRepository memberOutboxRepository;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publish(MemberEventType eventType, Member member) {
+        MemberEvent memberEvent = MemberEvent.of(eventType, member);
+
+        try {
+            memberOutboxRepository.save(MemberOutbox.builder()
+                    .eventType(eventType)
+                    .memberId(member.getId())
+                    .payload(objectMapper.writeValueAsString(memberEvent))
+                    .build());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("유저 이벤트 직렬화에 실패하였습니다. " + memberEvent, e);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.batton.memberservice.mq;
+
+import com.batton.memberservice.domain.MemberOutbox;
+import com.batton.memberservice.repository.MemberOutboxRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageBuilder;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * outbox 에 쌓인 유저 변경 이벤트를 member-exchange 로 발행
+ * 배치 단위로 전송 후 publisher confirm 을 한 번에 기다리고, 확인된 경우에만 발행 완료로 기록함
+ * 브로커 장애 시 행이 그대로 남아 다음 주기에 다시 발행됨 (at-least-once, 수신 측은 messageId 로 중복 제거)
+ */
+@Slf4j
+@Component
+public class MemberEventRelay {
+    public static final String EXCHANGE = "member-exchange";
+    private final MemberOutboxRepository memberOutboxRepository;
+    private final RabbitTemplate rabbitTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final long confirmTimeoutMillis;
+    private final long retentionHours;
+
+    public MemberEventRelay(MemberOutboxRepository memberOutboxRepository, RabbitTemplate rabbitTemplate, PlatformTransactionManager transactionManager,
+                            @Value("${member.events.batch-size:100}") int batchSize,
+                            @Value("${member.events.confirm-timeout-ms:5000}") long confirmTimeoutMillis,
+                            @Value("${member.events.retention-hours:24}") long retentionHours) {
+        this.memberOutboxRepository = memberOutboxRepository;
+        this.rabbitTemplate = rabbitTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.confirmTimeoutMillis = confirmTimeoutMillis;
+        this.retentionHours = retentionHours;
+    }
+
+    /**
+     * 발행 대기 이벤트가 없을 때까지 배치 단위로 발행
+     * @return 발행한 이벤트 수
+     */
+    @Scheduled(fixedDelayString = "${member.events.relay-interval-ms:500}")
+    public int relay() {
+        int published = 0;
+
+        try {
+            Integer count;
+            do {
+                count = transactionTemplate.execute(status -> relayBatch());
+                published += count;
+            } while (count == batchSize);
+        } catch (AmqpException e) {
+            log.warn("유저 이벤트 발행에 실패하였습니다. 다음 주기에 다시 시도합니다. {}", e.getMessage());
+        }
+
+        return published;
+    }
+
+    @Scheduled(fixedDelayString = "${member.events.cleanup-interval-ms:3600000}")
+    public void cleanup() {
+        int deleted = memberOutboxRepository.deletePublishedBefore(LocalDateTime.now().minusHours(retentionHours));
+
+        if (deleted > 0) {
+            log.info("발행 완료된 유저 이벤트 {}건 삭제", deleted);
+        }
+    }
+
+    private int relayBatch() {
+        List<MemberOutbox> outboxes = memberOutboxRepository.findUnpublishedForUpdate(PageRequest.of(0, batchSize));
+
+        if (outboxes.isEmpty()) {
+            return 0;
+        }
+
+        // 하나의 채널로 배치 전송 후 confirm 대기 (nack 또는 시간 초과 시 예외 -> 롤백)
+        rabbitTemplate.invoke(operations -> {
+            for (MemberOutbox outbox : outboxes) {
+                operations.send(EXCHANGE, outbox.getEventType().getRoutingKey(), toMessage(outbox));
+            }
+            operations.waitForConfirmsOrDie(confirmTimeoutMillis);
+
+            return null;
+        });
+        LocalDateTime publishedAt = LocalDateTime.now();
+        outboxes.forEach(outbox -> outbox.markPublished(publishedAt));
+
+        return outboxes.size();
+    }
+
+    private static Message toMessage(MemberOutbox outbox) {
+        return MessageBuilder.withBody(outbox.getPayload().getBytes(StandardCharsets.UTF_8))
+                .setContentType(MessageProperties.CONTENT_TYPE_JSON)
+                .setContentEncoding(StandardCharsets.UTF_8.name())
+                .setMessageId(String.valueOf(outbox.getId()))
+                .setType(outbox.getEventType().name())
+                .build();
+    }
+}
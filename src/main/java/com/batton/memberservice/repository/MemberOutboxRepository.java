@@ -0,0 +1,30 @@
+package com.batton.memberservice.repository;
+
+import com.batton.memberservice.domain.MemberOutbox;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import javax.persistence.LockModeType;
+import javax.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface MemberOutboxRepository extends JpaRepository<MemberOutbox, Long> {
+    // 발행 대기 이벤트 조회 (다른 인스턴스가 잠근 행은 건너뜀, lock timeout -2 = SKIP LOCKED)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "javax.persistence.lock.timeout", value = "-2"))
+    @Query("select o from MemberOutbox o where o.publishedAt is null order by o.id asc")
+    List<MemberOutbox> findUnpublishedForUpdate(Pageable pageable);
+    // 보관 기간이 지난 발행 완료 이벤트 삭제
+    @Transactional
+    @Modifying
+    @Query("delete from MemberOutbox o where o.publishedAt < :before")
+    int deletePublishedBefore(@Param("before") LocalDateTime before);
+}
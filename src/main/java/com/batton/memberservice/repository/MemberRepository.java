@@ -1,14 +1,82 @@
 package com.batton.memberservice.repository;
 
+import com.batton.memberservice.cache.MemberProfile;
 import com.batton.memberservice.domain.Member;
+import com.batton.memberservice.dto.GetMemberExportResDTO;
+import com.batton.memberservice.dto.GetMemberListResDTO;
+import com.batton.memberservice.enums.Authority;
+import com.batton.memberservice.enums.Status;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import javax.persistence.QueryHint;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface MemberRepository extends JpaRepository<Member, Long> {
-    // 이메일로 유저 검색
-    Optional<Member> findByEmail(String email);
-    // 이메일 중복 확인
-    boolean existsByEmail(String email);
+public interface MemberRepository extends JpaRepository<Member, Long>, MemberRepositoryCustom {
+    // 이메일 키로 유저 아이디 검색
+    @Query("select m.id from Member m where m.emailKey = :emailKey")
+    Optional<Long> findIdByEmailKey(@Param("emailKey") String emailKey);
+    // email_key 가 비어 있는(마이그레이션 전) 유저를 원본 이메일로 검색
+    @Query("select m.id from Member m where m.emailKey is null and m.email = :email")
+    Optional<Long> findLegacyIdByEmail(@Param("email") String email);
+    // 이메일 키 또는 마이그레이션 전 유저의 원본 이메일 중복 확인
+    @Query("select count(m) > 0 from Member m where m.emailKey = :emailKey or (m.emailKey is null and m.email = :email)")
+    boolean existsByEmailKeyOrLegacyEmail(@Param("emailKey") String emailKey, @Param("email") String email);
+    // 활성화된 유저 프로필 조회 (비밀번호, 감사 컬럼 제외)
+    @Query("select new com.batton.memberservice.cache.MemberProfile(m.id, m.email, m.nickname, m.profileImage, m.updatedAt) " +
+            "from Member m where m.id = :memberId and m.status = com.batton.memberservice.enums.Status.ENABLED")
+    Optional<MemberProfile> findEnabledProfileById(@Param("memberId") Long memberId);
+    // 활성화된 유저 프로필 일괄 조회 (비밀번호, 감사 컬럼 제외)
+    @Query("select new com.batton.memberservice.cache.MemberProfile(m.id, m.email, m.nickname, m.profileImage, m.updatedAt) " +
+            "from Member m where m.id in :memberIds and m.status = com.batton.memberservice.enums.Status.ENABLED")
+    List<MemberProfile> findEnabledProfilesByIdIn(@Param("memberIds") Collection<Long> memberIds);
+    // 활성화된 유저 아이디만 일괄 조회 (토큰 검증용)
+    @Query("select m.id from Member m where m.id in :memberIds and m.status = com.batton.memberservice.enums.Status.ENABLED")
+    List<Long> findEnabledIdsByIdIn(@Param("memberIds") Collection<Long> memberIds);
+    // 전체 이메일 키 스트리밍 조회, 마이그레이션 전 유저는 원본 이메일로 계산 (MySQL 은 fetch size 가 Integer.MIN_VALUE 일 때 행 단위로 스트리밍)
+    @QueryHints(@QueryHint(name = org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE, value = "-2147483648"))
+    @Query("select coalesce(m.emailKey, lower(trim(m.email))) from Member m")
+    Stream<String> streamAllEmailKeys();
+    // 활성화된 전체 유저 프로필 스트리밍 조회
+    @QueryHints(@QueryHint(name = org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE, value = "-2147483648"))
+    @Query("select new com.batton.memberservice.cache.MemberProfile(m.id, m.email, m.nickname, m.profileImage, m.updatedAt) " +
+            "from Member m where m.status = com.batton.memberservice.enums.Status.ENABLED")
+    Stream<MemberProfile> streamEnabledProfiles();
+    // member_id 기준 keyset 으로 공개 프로필 조회
+    @Query("select new com.batton.memberservice.dto.GetMemberExportResDTO(m.id, m.nickname, m.profileImage, m.status, m.updatedAt) " +
+            "from Member m where m.id > :afterId order by m.id asc")
+    List<GetMemberExportResDTO> findExportChunk(@Param("afterId") Long afterId, Pageable pageable);
+    // member_id 기준 keyset 으로 유저 목록 조회 (상태/권한 필터는 null 이면 미적용)
+    @Query("select new com.batton.memberservice.dto.GetMemberListResDTO(m.id, m.email, m.nickname, m.profileImage, m.authority, m.status) " +
+            "from Member m where m.id > :afterId and (:status is null or m.status = :status) " +
+            "and (:authority is null or m.authority = :authority) order by m.id asc")
+    List<GetMemberListResDTO> findPageAfter(@Param("afterId") Long afterId, @Param("status") Status status,
+                                            @Param("authority") Authority authority, Pageable pageable);
+    // 이메일 키가 없는 유저 아이디 keyset 조회
+    @Query("select m.id from Member m where m.emailKey is null and m.id > :afterId order by m.id asc")
+    List<Long> findIdsWithoutEmailKey(@Param("afterId") Long afterId, Pageable pageable);
+    // 이메일 키가 없는 기존 유저 데이터 채우기
+    @Transactional
+    @Modifying
+    @Query(value = "update member set email_key = lower(trim(email)) where member_id in (:memberIds) and email_key is null", nativeQuery = true)
+    int backfillEmailKeys(@Param("memberIds") Collection<Long> memberIds);
+
+    /**
+     * 이메일로 유저 아이디 검색
+     * 이메일 키로 먼저 조회하고, 없으면 email_key 가 비어 있는 유저를 원본 이메일로 조회
+     */
+    default Optional<Long> findIdByEmail(String email) {
+        Optional<Long> memberId = findIdByEmailKey(Member.toEmailKey(email));
+
+        return memberId.isPresent() ? memberId : findLegacyIdByEmail(email);
+    }
 }
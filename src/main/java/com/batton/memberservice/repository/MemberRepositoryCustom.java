@@ -0,0 +1,9 @@
+package com.batton.memberservice.repository;
+
+import com.batton.memberservice.domain.Member;
+import java.util.Optional;
+
+public interface MemberRepositoryCustom {
+    // 이메일 키가 없을 때만 저장 (저장한 경우에만 아이디 반환)
+    Optional<Long> insertIfAbsent(Member member);
+}
@@ -0,0 +1,54 @@
+package com.batton.memberservice.repository;
+
+import com.batton.memberservice.domain.Member;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * 조회 후 저장(check-then-act) 대신 유니크 인덱스(uk_member_email_key)로 중복을 막는 단일 INSERT
+ * 같은 이메일로 동시에 저장하면 먼저 저장한 트랜잭션이 끝날 때까지 기다린 뒤 중복 키 오류로 끝나며, 기존 행은 건드리지 않음
+ * (INSERT IGNORE 와 달리 중복 키 외의 오류(NOT NULL, 길이 초과 등)는 그대로 실패함)
+ */
+@RequiredArgsConstructor
+public class MemberRepositoryImpl implements MemberRepositoryCustom {
+    private static final String INSERT_SQL = "insert into member "
+            + "(email, email_key, nickname, password, authority, profile_image, status, created_at, updated_at) "
+            + "values (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public Optional<Long> insertIfAbsent(Member member) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        // MySQL 은 실패한 문장만 되돌리므로 중복 키 오류를 잡아도 트랜잭션은 계속 사용할 수 있음
+        try {
+            jdbcTemplate.update(connection -> {
+                PreparedStatement preparedStatement = connection.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS);
+                preparedStatement.setString(1, member.getEmail());
+                preparedStatement.setString(2, member.getEmailKey());
+                preparedStatement.setString(3, member.getNickname());
+                preparedStatement.setString(4, member.getPassword());
+                preparedStatement.setString(5, member.getAuthority().name());
+                preparedStatement.setString(6, member.getProfileImage());
+                preparedStatement.setString(7, member.getStatus().name());
+                preparedStatement.setTimestamp(8, now);
+                preparedStatement.setTimestamp(9, now);
+
+                return preparedStatement;
+            }, keyHolder);
+        } catch (DuplicateKeyException e) {
+            return Optional.empty();
+        }
+
+        return Optional.ofNullable(keyHolder.getKey()).map(Number::longValue);
+    }
+}
@@ -1,7 +0,0 @@
-package com.batton.memberservice.repository;
-
-import com.batton.memberservice.security.RefreshToken;
-import org.springframework.data.repository.CrudRepository;
-
-public interface RefreshTokenRepository extends CrudRepository<RefreshToken, String> {
-}
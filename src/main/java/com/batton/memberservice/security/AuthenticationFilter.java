@@ -1,10 +1,16 @@
 package com.batton.memberservice.security;
 
+import com.batton.memberservice.common.BaseResponse;
+import com.batton.memberservice.common.BaseResponseStatus;
 import com.batton.memberservice.dto.MemberLoginReqDTO;
+import com.batton.memberservice.enums.Status;
 import com.batton.memberservice.security.service.RefreshTokenService;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import lombok.RequiredArgsConstructor;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -17,18 +23,35 @@ import javax.servlet.ServletException;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
-import java.util.Date;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.stream.Collectors;
 
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 
-@RequiredArgsConstructor
 @Slf4j
 public class AuthenticationFilter extends UsernamePasswordAuthenticationFilter {
     private final AuthenticationManager authenticationManager;
     private final TokenProvider tokenProvider;
     private final RefreshTokenService refreshTokenService;
+    private final LoginThrottle loginThrottle;
+    // 요청마다 ObjectMapper 를 만들지 않도록 미리 만든 reader/writer 공유 (스레드 안전)
+    private final ObjectReader credentialReader;
+    private final ObjectWriter tokenWriter;
+    private final ObjectWriter errorWriter;
+
+    public AuthenticationFilter(AuthenticationManager authenticationManager, TokenProvider tokenProvider,
+                                RefreshTokenService refreshTokenService, LoginThrottle loginThrottle, ObjectMapper objectMapper) {
+        this.authenticationManager = authenticationManager;
+        this.tokenProvider = tokenProvider;
+        this.refreshTokenService = refreshTokenService;
+        this.loginThrottle = loginThrottle;
+        this.credentialReader = objectMapper.readerFor(MemberLoginReqDTO.class);
+        // 만료 시각은 기존 응답과 같이 epoch millis 로 출력
+        this.tokenWriter = objectMapper.writerFor(TokenDTO.class)
+                .with(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        this.errorWriter = objectMapper.writerFor(BaseResponse.class);
+    }
 
     @Override
     public Authentication attemptAuthentication(HttpServletRequest request,
@@ -36,7 +59,9 @@ public class AuthenticationFilter extends UsernamePasswordAuthenticationFilter {
         Authentication authentication;
 
         try {
-            MemberLoginReqDTO credential = new ObjectMapper().readValue(request.getInputStream(), MemberLoginReqDTO.class);
+            MemberLoginReqDTO credential = credentialReader.readValue(request.getInputStream());
+            // 유저 조회, 비밀번호 해시 전에 이메일/IP 별 시도 횟수 제한 (게이트웨이 뒤에서는 RemoteIpValve 가 복원한 클라이언트 IP)
+            loginThrottle.acquire(credential.getEmail(), request.getRemoteAddr());
             authentication = authenticationManager.authenticate(
                     new UsernamePasswordAuthenticationToken(
                             credential.getEmail(),
@@ -61,26 +86,49 @@ public class AuthenticationFilter extends UsernamePasswordAuthenticationFilter {
                 .collect(Collectors.toList());
 
         String memberId = user.getUsername();
-        String accessToken = tokenProvider.createAccessToken(memberId, request.getRequestURI(), roles);
-        Date expiredTime = tokenProvider.getExpiredTime(accessToken);
-        String refreshToken = tokenProvider.createRefreshToken();
+        IssuedToken accessToken = tokenProvider.createAccessToken(memberId, request.getRequestURI(), roles);
+        IssuedToken refreshToken = tokenProvider.createRefreshToken();
 
-        refreshTokenService.updateRefreshToken(Long.valueOf(memberId), tokenProvider.getRefreshTokenId(refreshToken));
+        // 비활성화된 유저는 인증 단계에서 거절되므로 상태는 ENABLED
+        refreshTokenService.updateRefreshToken(Long.valueOf(memberId), refreshToken.getTokenId(), roles, Status.ENABLED);
 
-        TokenDTO.TokenData tokenData = TokenDTO.TokenData.builder().accessToken(accessToken)
-                .accessTokenExpiredDate(expiredTime)
-                .refreshToken(refreshToken)
+        TokenDTO.TokenData tokenData = TokenDTO.TokenData.builder().accessToken(accessToken.getToken())
+                .accessTokenExpiredDate(accessToken.getExpiration())
+                .refreshToken(refreshToken.getToken())
                 .build();
         TokenDTO tokenDTO = TokenDTO.builder()
                 .isSuccess(true)
                 .code(200)
                 .message("로그인 성공하셨습니다.")
                 .result(tokenData)
-                        .build();
+                .build();
 
         response.setContentType(APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+
+        tokenWriter.writeValue(response.getOutputStream(), tokenDTO);
+        log.info("로그인 : 유저 {} 님이 로그인했습니다.", memberId);
+    }
+
+    /**
+     * 시도 횟수 초과, 해시 풀 포화로 거절된 로그인은 인증 실패(401)가 아닌 429 응답
+     */
+    @Override
+    protected void unsuccessfulAuthentication(HttpServletRequest request,
+                                              HttpServletResponse response,
+                                              AuthenticationException failed) throws IOException, ServletException {
+        if (failed instanceof LoginThrottledException || failed instanceof PasswordHashingRejectedException) {
+            long retryAfterSeconds = failed instanceof LoginThrottledException
+                    ? Math.max(1, (((LoginThrottledException) failed).getRetryAfterMillis() + 999) / 1000)
+                    : 1;
+            response.setStatus(BaseResponseStatus.TOO_MANY_REQUESTS.getCode());
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+            response.setContentType(APPLICATION_JSON_VALUE);
+            response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+            errorWriter.writeValue(response.getOutputStream(), new BaseResponse<>(BaseResponseStatus.TOO_MANY_REQUESTS));
 
-        new ObjectMapper().writeValue(response.getOutputStream(), tokenDTO);
-        log.info("로그인 : 유저 " + memberId + " 님이 로그인했습니다.");
+            return;
+        }
+        super.unsuccessfulAuthentication(request, response, failed);
     }
 }
@@ -1,6 +1,12 @@
 package com.batton.memberservice.security;
 
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import javax.servlet.FilterChain;
@@ -8,17 +14,55 @@ import javax.servlet.ServletException;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
 
+/**
+ * Bearer 액세스 토큰을 검증하여 SecurityContext 생성 (principal 은 유저 아이디)
+ * 토큰이 없으면 그대로 통과하고, 유효하지 않은 토큰이면 401 응답
+ */
 @Slf4j
+@RequiredArgsConstructor
 public class HeaderAuthorizationFilter extends OncePerRequestFilter {
+    private static final String BEARER_PREFIX = "Bearer ";
+    private final VerifiedTokenCache verifiedTokenCache;
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
-        if (request.getServletPath().equals("/auth/login")) {
+        // 재발급 요청은 만료된 액세스 토큰을 들고 오므로 검증하지 않음
+        if (request.getServletPath().equals("/auth/login") || request.getServletPath().equals("/auth/reissue")) {
             filterChain.doFilter(request, response);
 
             return;
         }
-        filterChain.doFilter(request, response);
+        String authorization = request.getHeader(HttpHeaders.AUTHORIZATION);
+
+        if (authorization == null || !authorization.startsWith(BEARER_PREFIX)) {
+            filterChain.doFilter(request, response);
+
+            return;
+        }
+        Optional<ParsedToken> parsedToken = verifiedTokenCache.verify(authorization.substring(BEARER_PREFIX.length()).trim());
+
+        if (parsedToken.isEmpty() || parsedToken.get().getMemberId() == null) {
+            SecurityContextHolder.clearContext();
+            response.sendError(HttpServletResponse.SC_UNAUTHORIZED);
+
+            return;
+        }
+        List<SimpleGrantedAuthority> authorities = parsedToken.get().getRoles().stream()
+                .map(SimpleGrantedAuthority::new)
+                .collect(Collectors.toList());
+        SecurityContext context = SecurityContextHolder.createEmptyContext();
+        context.setAuthentication(new UsernamePasswordAuthenticationToken(parsedToken.get().getMemberId(), null, authorities));
+        SecurityContextHolder.setContext(context);
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
     }
 }
@@ -0,0 +1,34 @@
+package com.batton.memberservice.security;
+
+import com.batton.memberservice.common.BaseException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+import static com.batton.memberservice.common.BaseResponseStatus.INVALID_INTERNAL_CALLER;
+
+/**
+ * 내부 서비스 호출자 확인
+ * 다른 서비스(게이트웨이, Feign, gRPC 클라이언트, 내보내기 작업)는 유저 토큰 대신 공유 비밀 값을 X-Internal-Token 헤더로 보냄
+ */
+@Component
+public class InternalCallerVerifier {
+    public static final String HEADER = "X-Internal-Token";
+    // 설정되지 않으면 모든 호출 거절
+    private final byte[] internalSecret;
+
+    public InternalCallerVerifier(@Value("${security.internal-secret:${token.introspect-secret:}}") String internalSecret) {
+        this.internalSecret = internalSecret.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 비교 시간이 값에 따라 달라지지 않도록 MessageDigest.isEqual 사용
+     */
+    public void check(String internalToken) {
+        if (internalSecret.length == 0 || internalToken == null
+                || !MessageDigest.isEqual(internalSecret, internalToken.getBytes(StandardCharsets.UTF_8))) {
+            throw new BaseException(INVALID_INTERNAL_CALLER);
+        }
+    }
+}
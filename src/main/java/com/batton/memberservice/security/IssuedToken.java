@@ -0,0 +1,21 @@
+package com.batton.memberservice.security;
+
+import lombok.Getter;
+import java.util.Date;
+
+/**
+ * 발급된 토큰과 발급 시점에 정해진 값 (다시 파싱하지 않고 만료 시각, 토큰 아이디를 읽기 위함)
+ */
+@Getter
+public class IssuedToken {
+    private final String token;
+    private final Date expiration;
+    // 리프레시 토큰은 value 클레임, 액세스 토큰은 jti
+    private final String tokenId;
+
+    public IssuedToken(String token, Date expiration, String tokenId) {
+        this.token = token;
+        this.expiration = expiration;
+        this.tokenId = tokenId;
+    }
+}
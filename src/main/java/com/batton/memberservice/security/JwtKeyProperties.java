@@ -0,0 +1,34 @@
+package com.batton.memberservice.security;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 액세스 토큰 서명 키 설정 (token.jwk.*, SigningKeyRing 이 설정 갱신 시마다 바인딩)
+ * algorithm 이 ES256 이면 active-kid 의 개인 키로 서명하고, keys 의 모든 공개 키를 JWKS 로 공개함
+ * 키 교체 시 새 키를 추가하고 active-kid 를 바꾼 뒤, 이전 키는 발급된 토큰이 만료된 후 제거
+ * (설정에서 먼저 제거해도 가장 긴 토큰 수명 동안은 검증용으로 유지됨)
+ */
+@Getter
+@Setter
+@EqualsAndHashCode
+public class JwtKeyProperties {
+    // HS512 (공유 비밀 키) 또는 ES256
+    private String algorithm = "HS512";
+    private String activeKid;
+    private List<Key> keys = new ArrayList<>();
+
+    @Getter
+    @Setter
+    @EqualsAndHashCode
+    public static class Key {
+        private String kid;
+        // PKCS#8 DER base64 (검증 전용 키는 생략)
+        private String privateKey;
+        // X.509 SubjectPublicKeyInfo DER base64
+        private String publicKey;
+    }
+}
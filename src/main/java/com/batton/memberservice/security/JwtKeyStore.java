@@ -0,0 +1,173 @@
+package com.batton.memberservice.security;
+
+import io.jsonwebtoken.SignatureAlgorithm;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import java.math.BigInteger;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * ES256 서명 키와 kid 별 검증 공개 키 목록 (token.jwk 설정이 바뀔 때만 새로 생성, 불변)
+ */
+@Slf4j
+@Getter
+public class JwtKeyStore {
+    @Getter(AccessLevel.NONE)
+    private final JwtKeyProperties jwtKeyProperties;
+    private final SignatureAlgorithm accessTokenAlgorithm;
+    private final String signingKid;
+    private final PrivateKey signingKey;
+    private final Map<String, PublicKey> verificationKeys;
+    // 설정에서 제거된 kid 별 검증 중단 시각 (설정에 있는 키는 없음)
+    @Getter(AccessLevel.NONE)
+    private final Map<String, Long> retireAts;
+
+    public JwtKeyStore(JwtKeyProperties jwtKeyProperties) {
+        this(jwtKeyProperties, null, 0L, 0L);
+    }
+
+    /**
+     * @param previous 이전 키 저장소 (설정에서 제거된 공개 키는 retireAt 까지 검증용으로 유지)
+     */
+    public JwtKeyStore(JwtKeyProperties jwtKeyProperties, JwtKeyStore previous, long retireAt, long now) {
+        this.jwtKeyProperties = jwtKeyProperties;
+        this.accessTokenAlgorithm = SignatureAlgorithm.forName(jwtKeyProperties.getAlgorithm());
+
+        if (accessTokenAlgorithm != SignatureAlgorithm.HS512 && accessTokenAlgorithm != SignatureAlgorithm.ES256) {
+            throw new IllegalStateException("지원하지 않는 토큰 서명 알고리즘입니다. " + accessTokenAlgorithm);
+        }
+        Map<String, PublicKey> publicKeys = new LinkedHashMap<>();
+        PrivateKey privateKey = null;
+        String kid = jwtKeyProperties.getActiveKid();
+
+        try {
+            KeyFactory keyFactory = KeyFactory.getInstance("EC");
+
+            for (JwtKeyProperties.Key key : jwtKeyProperties.getKeys()) {
+                publicKeys.put(key.getKid(), keyFactory.generatePublic(new X509EncodedKeySpec(Base64.getDecoder().decode(key.getPublicKey()))));
+
+                if (key.getKid().equals(kid) && key.getPrivateKey() != null) {
+                    privateKey = keyFactory.generatePrivate(new PKCS8EncodedKeySpec(Base64.getDecoder().decode(key.getPrivateKey())));
+                }
+            }
+
+            // 키 설정 없이 ES256 을 사용하면 임시 키 생성 (단일 인스턴스 개발 환경용)
+            if (accessTokenAlgorithm == SignatureAlgorithm.ES256 && publicKeys.isEmpty()) {
+                KeyPair keyPair = generateKeyPair();
+                kid = UUID.randomUUID().toString();
+                privateKey = keyPair.getPrivate();
+                publicKeys.put(kid, keyPair.getPublic());
+                log.warn("token.jwk.keys 가 설정되지 않아 임시 ES256 키를 생성하였습니다. kid={}", kid);
+            }
+        } catch (GeneralSecurityException | IllegalArgumentException e) {
+            throw new IllegalStateException("토큰 서명 키를 읽을 수 없습니다.", e);
+        }
+
+        if (accessTokenAlgorithm == SignatureAlgorithm.ES256 && privateKey == null) {
+            throw new IllegalStateException("token.jwk.active-kid 의 개인 키가 없습니다. " + kid);
+        }
+        Map<String, Long> retiredKeys = new HashMap<>();
+
+        if (previous != null) {
+            previous.verificationKeys.forEach((previousKid, publicKey) -> {
+                long previousRetireAt = previous.retireAts.getOrDefault(previousKid, Long.MAX_VALUE);
+
+                if (!publicKeys.containsKey(previousKid) && previousRetireAt > now) {
+                    publicKeys.put(previousKid, publicKey);
+                    retiredKeys.put(previousKid, Math.min(previousRetireAt, retireAt));
+                }
+            });
+        }
+        this.signingKid = kid;
+        this.signingKey = privateKey;
+        this.verificationKeys = Collections.unmodifiableMap(publicKeys);
+        this.retireAts = Collections.unmodifiableMap(retiredKeys);
+    }
+
+    /**
+     * 같은 설정으로 만든 키 저장소인지 확인
+     */
+    public boolean isLoadedFrom(JwtKeyProperties jwtKeyProperties) {
+        return this.jwtKeyProperties.equals(jwtKeyProperties);
+    }
+
+    /**
+     * kid 의 검증 공개 키 (제거된 키는 retireAt 이후 null)
+     */
+    public PublicKey getVerificationKey(String kid, long now) {
+        Long retireAt = retireAts.get(kid);
+
+        return retireAt == null || retireAt > now ? verificationKeys.get(kid) : null;
+    }
+
+    public boolean isAsymmetric() {
+        return accessTokenAlgorithm == SignatureAlgorithm.ES256;
+    }
+
+    /**
+     * 검증 공개 키 목록을 JWK Set(RFC 7517) 형식으로 변환
+     */
+    public Map<String, Object> toJwks() {
+        List<Map<String, String>> keys = new ArrayList<>();
+        long now = System.currentTimeMillis();
+
+        verificationKeys.forEach((kid, publicKey) -> {
+            if (getVerificationKey(kid, now) == null) {
+                return;
+            }
+            ECPublicKey ecPublicKey = (ECPublicKey) publicKey;
+            Map<String, String> jwk = new LinkedHashMap<>();
+            jwk.put("kty", "EC");
+            jwk.put("crv", "P-256");
+            jwk.put("kid", kid);
+            jwk.put("use", "sig");
+            jwk.put("alg", SignatureAlgorithm.ES256.getValue());
+            jwk.put("x", toCoordinate(ecPublicKey.getW().getAffineX()));
+            jwk.put("y", toCoordinate(ecPublicKey.getW().getAffineY()));
+            keys.add(jwk);
+        });
+
+        return Collections.singletonMap("keys", keys);
+    }
+
+    public static KeyPair generateKeyPair() throws GeneralSecurityException {
+        KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("EC");
+        keyPairGenerator.initialize(new ECGenParameterSpec("secp256r1"));
+
+        return keyPairGenerator.generateKeyPair();
+    }
+
+    /**
+     * P-256 좌표를 부호 없는 32바이트 base64url 로 인코딩
+     */
+    private static String toCoordinate(BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        byte[] coordinate = new byte[32];
+
+        if (bytes.length > 32) {
+            bytes = Arrays.copyOfRange(bytes, bytes.length - 32, bytes.length);
+        }
+        System.arraycopy(bytes, 0, coordinate, 32 - bytes.length, bytes.length);
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(coordinate);
+    }
+}
@@ -0,0 +1,212 @@
+package com.batton.memberservice.security;
+
+import com.batton.memberservice.domain.Member;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 이메일별, 클라이언트 IP 별 로그인 토큰 버킷
+ * 모든 인스턴스가 Redis 의 버킷을 공유하며 한 번의 Lua 스크립트로 확인과 차감을 원자적으로 처리함
+ * 이미 막힌 이메일/IP 는 로컬 backoff 캐시에서 바로 거절하고, Redis 장애 시에는 인스턴스별 로컬 버킷으로 제한함
+ */
+@Slf4j
+@Component
+public class LoginThrottle {
+    private static final String KEY_PREFIX = "login:bucket:";
+    private static final long REDIS_RETRY_INTERVAL_MILLIS = 5_000;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisScript<List<Object>> tokenBucketScript;
+    private final BucketLimit emailLimit;
+    private final BucketLimit ipLimit;
+    // 키별 차단 해제 시각 (ms)
+    private final Cache<String, Long> backoff;
+    private final Cache<String, LocalBucket> localBuckets;
+    private final Counter allowedCounter;
+    private final Counter rejectedCounter;
+    private final Counter backoffCounter;
+    private final Counter fallbackCounter;
+    private volatile long redisRetryAt;
+
+    public LoginThrottle(StringRedisTemplate redisTemplate, MeterRegistry meterRegistry,
+                         @Value("${security.login-throttle.email.capacity:10}") int emailCapacity,
+                         @Value("${security.login-throttle.email.refill-per-minute:5}") int emailRefillPerMinute,
+                         @Value("${security.login-throttle.ip.capacity:100}") int ipCapacity,
+                         @Value("${security.login-throttle.ip.refill-per-minute:60}") int ipRefillPerMinute,
+                         @Value("${security.login-throttle.local-max-size:100000}") long localMaxSize) {
+        this.redisTemplate = redisTemplate;
+        this.tokenBucketScript = listScript("scripts/login_token_bucket.lua");
+        this.emailLimit = new BucketLimit(emailCapacity, emailRefillPerMinute);
+        this.ipLimit = new BucketLimit(ipCapacity, ipRefillPerMinute);
+        this.backoff = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfter(new Expiry<String, Long>() {
+                    @Override
+                    public long expireAfterCreate(String key, Long blockedUntil, long currentTime) {
+                        return TimeUnit.MILLISECONDS.toNanos(Math.max(0, blockedUntil - System.currentTimeMillis()));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, Long blockedUntil, long currentTime, long currentDuration) {
+                        return expireAfterCreate(key, blockedUntil, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, Long blockedUntil, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+        this.localBuckets = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterAccess(Duration.ofMinutes(10))
+                .build();
+        this.allowedCounter = Counter.builder("auth.login.throttle").tag("result", "allowed").register(meterRegistry);
+        this.rejectedCounter = Counter.builder("auth.login.throttle").tag("result", "rejected").register(meterRegistry);
+        this.backoffCounter = Counter.builder("auth.login.throttle").tag("result", "backoff").register(meterRegistry);
+        this.fallbackCounter = Counter.builder("auth.login.throttle.fallback").register(meterRegistry);
+    }
+
+    /**
+     * 로그인 시도 1회 차감 (DB 조회나 비밀번호 해시 전에 호출)
+     * @throws LoginThrottledException 이메일 또는 IP 버킷이 비어 있는 경우
+     */
+    public void acquire(String email, String clientIp) {
+        String emailKey = "email:" + Member.toEmailKey(email == null ? "" : email);
+        String ipKey = "ip:" + clientIp;
+        long now = System.currentTimeMillis();
+        long blockedUntil = Math.max(blockedUntil(emailKey, now), blockedUntil(ipKey, now));
+
+        if (blockedUntil > now) {
+            backoffCounter.increment();
+
+            throw new LoginThrottledException(blockedUntil - now);
+        }
+        long[] waits = now >= redisRetryAt ? acquireShared(emailKey, ipKey) : null;
+
+        if (waits == null) {
+            fallbackCounter.increment();
+            waits = acquireLocal(emailKey, ipKey);
+        }
+        if (waits[0] > 0 || waits[1] > 0) {
+            block(emailKey, now + waits[0]);
+            block(ipKey, now + waits[1]);
+            rejectedCounter.increment();
+
+            throw new LoginThrottledException(Math.max(waits[0], waits[1]));
+        }
+        allowedCounter.increment();
+    }
+
+    /**
+     * Redis 버킷에서 차감 (Redis 오류 시 null 반환 후 잠시 동안 로컬 버킷 사용)
+     */
+    private long[] acquireShared(String emailKey, String ipKey) {
+        try {
+            List<Object> result = redisTemplate.execute(tokenBucketScript, Arrays.asList(KEY_PREFIX + emailKey, KEY_PREFIX + ipKey),
+                    String.valueOf(emailLimit.capacity), String.valueOf(emailLimit.refillPerMinute),
+                    String.valueOf(ipLimit.capacity), String.valueOf(ipLimit.refillPerMinute));
+
+            if (result != null && result.size() == 3) {
+                return new long[]{((Number) result.get(1)).longValue(), ((Number) result.get(2)).longValue()};
+            }
+            log.warn("로그인 토큰 버킷 스크립트 결과가 올바르지 않습니다. {}", result);
+        } catch (RuntimeException e) {
+            log.warn("Redis 로그인 토큰 버킷 조회에 실패하여 로컬 버킷을 사용합니다.", e);
+        }
+        redisRetryAt = System.currentTimeMillis() + REDIS_RETRY_INTERVAL_MILLIS;
+
+        return null;
+    }
+
+    private long[] acquireLocal(String emailKey, String ipKey) {
+        LocalBucket emailBucket = localBuckets.get(emailKey, key -> new LocalBucket(emailLimit));
+        LocalBucket ipBucket = localBuckets.get(ipKey, key -> new LocalBucket(ipLimit));
+
+        // 두 버킷을 항상 같은 순서로 잠금
+        synchronized (emailBucket) {
+            synchronized (ipBucket) {
+                long now = System.nanoTime();
+                double emailTokens = emailBucket.refill(now);
+                double ipTokens = ipBucket.refill(now);
+
+                if (emailTokens >= 1 && ipTokens >= 1) {
+                    emailBucket.tokens -= 1;
+                    ipBucket.tokens -= 1;
+
+                    return new long[]{0, 0};
+                }
+
+                return new long[]{emailBucket.waitMillis(), ipBucket.waitMillis()};
+            }
+        }
+    }
+
+    private long blockedUntil(String key, long now) {
+        Long blockedUntil = backoff.getIfPresent(key);
+
+        return blockedUntil == null ? now : blockedUntil;
+    }
+
+    private void block(String key, long blockedUntil) {
+        if (blockedUntil > System.currentTimeMillis()) {
+            backoff.put(key, blockedUntil);
+        }
+    }
+
+    /**
+     * 스크립트가 반환하는 배열은 List 로 변환됨 (제네릭 Class 는 만들 수 없어 캐스팅)
+     */
+    @SuppressWarnings("unchecked")
+    private static RedisScript<List<Object>> listScript(String path) {
+        return RedisScript.of(new ClassPathResource(path), (Class<List<Object>>) (Class<?>) List.class);
+    }
+
+    private static final class BucketLimit {
+        private final int capacity;
+        private final int refillPerMinute;
+
+        private BucketLimit(int capacity, int refillPerMinute) {
+            this.capacity = capacity;
+            this.refillPerMinute = refillPerMinute;
+        }
+    }
+
+    /**
+     * Redis 장애 시 사용하는 인스턴스 로컬 토큰 버킷
+     */
+    private static final class LocalBucket {
+        private final BucketLimit limit;
+        private double tokens;
+        private long refilledAt;
+
+        private LocalBucket(BucketLimit limit) {
+            this.limit = limit;
+            this.tokens = limit.capacity;
+            this.refilledAt = System.nanoTime();
+        }
+
+        private double refill(long now) {
+            tokens = Math.min(limit.capacity, tokens + (now - refilledAt) * limit.refillPerMinute / (double) TimeUnit.MINUTES.toNanos(1));
+            refilledAt = now;
+
+            return tokens;
+        }
+
+        private long waitMillis() {
+            return tokens >= 1 ? 0 : (long) Math.ceil((1 - tokens) * 60_000 / limit.refillPerMinute);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.batton.memberservice.security;
+
+import lombok.Getter;
+import org.springframework.security.core.AuthenticationException;
+
+/**
+ * 로그인 시도 횟수 제한 초과 (429 응답)
+ */
+@Getter
+public class LoginThrottledException extends AuthenticationException {
+    private static final long serialVersionUID = 1L;
+    private final long retryAfterMillis;
+
+    public LoginThrottledException(long retryAfterMillis) {
+        super("로그인 시도 횟수를 초과하였습니다.");
+        this.retryAfterMillis = retryAfterMillis;
+    }
+}
@@ -0,0 +1,46 @@
+package com.batton.memberservice.security;
+
+import com.batton.memberservice.enums.Authority;
+import io.jsonwebtoken.Claims;
+import lombok.Getter;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * 서명 검증을 한 번 마친 토큰의 클레임
+ * 기존 형식(sub, roles)과 압축 형식(m, r) 모두 읽음
+ */
+@Getter
+public class ParsedToken {
+    private final String memberId;
+    // 리프레시 토큰의 value 클레임 (액세스 토큰은 null)
+    private final String refreshTokenId;
+    // 액세스 토큰의 jti (jti 도입 이전 발급 토큰은 null)
+    private final String tokenId;
+    private final List<String> roles;
+    private final Date issuedAt;
+    private final Date expiration;
+    private final boolean expired;
+
+    @SuppressWarnings("unchecked")
+    ParsedToken(Claims claims, boolean expired) {
+        Object value = claims.get("value");
+        Object memberId = claims.get(TokenProvider.MEMBER_ID_CLAIM);
+        Object roles = claims.get("roles");
+        Object roleMask = claims.get(TokenProvider.ROLE_MASK_CLAIM);
+
+        this.memberId = memberId instanceof Number ? String.valueOf(((Number) memberId).longValue()) : claims.getSubject();
+        this.refreshTokenId = value == null ? null : value.toString();
+        this.tokenId = claims.getId();
+
+        if (roleMask instanceof Number) {
+            this.roles = Collections.unmodifiableList(Authority.fromMask(((Number) roleMask).intValue()));
+        } else {
+            this.roles = roles == null ? Collections.emptyList() : Collections.unmodifiableList((List<String>) roles);
+        }
+        this.issuedAt = claims.getIssuedAt();
+        this.expiration = claims.getExpiration();
+        this.expired = expired;
+    }
+}
@@ -0,0 +1,15 @@
+package com.batton.memberservice.security;
+
+import org.springframework.security.core.AuthenticationException;
+
+/**
+ * 비밀번호 해시 전용 풀과 대기열이 모두 찬 경우 (429 응답)
+ * 로그인 필터에서도 처리되도록 AuthenticationException 을 상속함
+ */
+public class PasswordHashingRejectedException extends AuthenticationException {
+    private static final long serialVersionUID = 1L;
+
+    public PasswordHashingRejectedException(String message) {
+        super(message);
+    }
+}
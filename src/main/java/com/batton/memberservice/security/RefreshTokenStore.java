@@ -0,0 +1,203 @@
+package com.batton.memberservice.security;
+
+import com.batton.memberservice.enums.Status;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Redis 리프레시 토큰 저장소
+ * 모든 연산은 Lua 스크립트 한 번(왕복 1회)으로 처리하며, TTL 은 token.refresh-expiration-time 을 따름
+ * 유저별 키는 같은 해시 슬롯에 두기 위해 {유저 아이디} 해시 태그를 사용함
+ *
+ * refresh:{m}:token:{id} 활성 토큰 ("유저 아이디:세대")
+ * refresh:{m}:used:{id}  교체된 토큰 (재사용 감지, 남은 수명 동안 유지, 교체 후 유예 시간 동안은 재교체 허용)
+ * refresh:{m}:tokens     유저별 활성 토큰 아이디 (ZSET, score 는 만료 시각)
+ * refresh:{m}:generation 유저별 세대 (전체 폐기 시 증가)
+ * refresh:{m}:member     재발급용 유저 권한/상태 (HASH, 저장 시점부터 고정 TTL, 유저 변경 메시지 수신 시 삭제)
+ */
+@Slf4j
+@Component
+public class RefreshTokenStore implements MessageListener {
+    private final StringRedisTemplate redisTemplate;
+    private final SigningKeyRing signingKeyRing;
+    // 교체 직후 같은 토큰으로 들어온 요청을 탈취로 보지 않는 시간
+    private final long reuseGraceMillis;
+    // 재발급용 권한/상태 보관 시간 (교체 시 연장하지 않음)
+    private final long memberTtlMillis;
+    private final RedisScript<Long> issueScript;
+    private final RedisScript<List<Object>> rotateScript;
+    private final RedisScript<Long> revokeScript;
+    private final RedisScript<Long> revokeAllScript;
+    private final RedisScript<Long> cacheMemberScript;
+
+    public RefreshTokenStore(StringRedisTemplate redisTemplate, SigningKeyRing signingKeyRing,
+                             @Value("${token.refresh-reuse-grace-ms:5000}") long reuseGraceMillis,
+                             @Value("${token.refresh-member-ttl-ms:300000}") long memberTtlMillis) {
+        this.redisTemplate = redisTemplate;
+        this.signingKeyRing = signingKeyRing;
+        this.reuseGraceMillis = reuseGraceMillis;
+        this.memberTtlMillis = memberTtlMillis;
+        this.issueScript = script("refresh_token_issue.lua");
+        this.rotateScript = listScript("refresh_token_rotate.lua");
+        this.revokeScript = script("refresh_token_revoke.lua");
+        this.revokeAllScript = script("refresh_token_revoke_all.lua");
+        this.cacheMemberScript = script("refresh_token_cache_member.lua");
+    }
+
+    /**
+     * 토큰 저장 (권한/상태를 알면 재발급용으로 함께 저장)
+     * @param status 모르면 null
+     */
+    public void issue(Long memberId, String tokenId, List<String> roles, Status status) {
+        redisTemplate.execute(issueScript,
+                Arrays.asList(tokenKey(memberId, tokenId), indexKey(memberId), generationKey(memberId), memberKey(memberId)),
+                String.valueOf(memberId), tokenId, ttl(), String.join(",", roles), status == null ? "" : status.name(),
+                String.valueOf(memberTtlMillis));
+    }
+
+    /**
+     * 이전 토큰을 새 토큰으로 교체하고 저장된 권한/상태를 함께 반환
+     * 교체 후 유예 시간 안에 같은 토큰이 다시 오면(여러 탭, 재시도) 새 토큰을 하나 더 발급하고,
+     * 유예 시간이 지난 뒤 다시 사용되면 탈취로 보고 해당 유저의 토큰을 모두 폐기함
+     */
+    public Rotation rotate(Long memberId, String oldTokenId, String newTokenId) {
+        List<Object> result = redisTemplate.execute(rotateScript,
+                Arrays.asList(tokenKey(memberId, oldTokenId), usedKey(memberId, oldTokenId), tokenKey(memberId, newTokenId),
+                        indexKey(memberId), generationKey(memberId), memberKey(memberId)),
+                String.valueOf(memberId), oldTokenId, newTokenId, ttl(), String.valueOf(reuseGraceMillis));
+        long code = result == null || result.isEmpty() ? 0 : ((Number) result.get(0)).longValue();
+
+        if (code == 1) {
+            String roles = result.size() > 1 ? (String) result.get(1) : "";
+            String status = result.size() > 2 ? (String) result.get(2) : "";
+
+            return new Rotation(RotationResult.ROTATED,
+                    roles.isEmpty() ? Collections.emptyList() : Arrays.asList(roles.split(",")),
+                    status.isEmpty() ? null : Status.valueOf(status));
+        }
+        if (code == -1) {
+            log.warn("교체된 리프레시 토큰이 재사용되어 유저 {} 의 토큰을 모두 폐기합니다.", memberId);
+
+            return new Rotation(RotationResult.REUSED, Collections.emptyList(), null);
+        }
+
+        return new Rotation(RotationResult.NOT_FOUND, Collections.emptyList(), null);
+    }
+
+    /**
+     * 재발급용 권한/상태 저장 (교체 결과에 없어 DB 에서 읽은 경우)
+     */
+    public void cacheMember(Long memberId, List<String> roles, Status status) {
+        redisTemplate.execute(cacheMemberScript, Collections.singletonList(memberKey(memberId)),
+                String.join(",", roles), status.name(), String.valueOf(memberTtlMillis));
+    }
+
+    /**
+     * 유저 변경(권한, 상태 등) 시 재발급용 권한/상태 삭제 (다음 재발급 때 DB 에서 다시 읽음)
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String memberId = new String(message.getBody(), StandardCharsets.UTF_8);
+
+        try {
+            redisTemplate.unlink(memberKey(Long.valueOf(memberId)));
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 유저 변경 메시지입니다. {}", memberId);
+        } catch (RuntimeException e) {
+            log.warn("재발급용 유저 정보 삭제에 실패하였습니다. memberId={}", memberId, e);
+        }
+    }
+
+    /**
+     * 토큰 하나 폐기 (다른 유저의 토큰이면 false)
+     */
+    public boolean revoke(Long memberId, String tokenId) {
+        Long result = redisTemplate.execute(revokeScript, Arrays.asList(tokenKey(memberId, tokenId), indexKey(memberId)),
+                String.valueOf(memberId), tokenId);
+
+        return result != null && result == 1;
+    }
+
+    /**
+     * 유저의 모든 토큰 폐기 (토큰 수와 관계없이 O(1))
+     */
+    public void revokeAll(Long memberId) {
+        redisTemplate.execute(revokeAllScript, Arrays.asList(indexKey(memberId), generationKey(memberId), memberKey(memberId)), ttl());
+    }
+
+    /**
+     * 유저의 활성 토큰 수 (만료 시각이 지난 항목은 제외)
+     */
+    public long countActive(Long memberId) {
+        Long count = redisTemplate.opsForZSet().count(indexKey(memberId), System.currentTimeMillis(), Double.POSITIVE_INFINITY);
+
+        return count == null ? 0 : count;
+    }
+
+    public enum RotationResult {
+        ROTATED, NOT_FOUND, REUSED
+    }
+
+    /**
+     * 교체 결과 (status 가 null 이면 권한/상태가 캐시에 없음)
+     */
+    @Getter
+    public static class Rotation {
+        private final RotationResult result;
+        private final List<String> roles;
+        private final Status status;
+
+        public Rotation(RotationResult result, List<String> roles, Status status) {
+            this.result = result;
+            this.roles = roles;
+            this.status = status;
+        }
+    }
+
+    private String ttl() {
+        return String.valueOf(signingKeyRing.current().getRefreshExpiration());
+    }
+
+    private static String tokenKey(Long memberId, String tokenId) {
+        return "refresh:{" + memberId + "}:token:" + tokenId;
+    }
+
+    private static String usedKey(Long memberId, String tokenId) {
+        return "refresh:{" + memberId + "}:used:" + tokenId;
+    }
+
+    private static String indexKey(Long memberId) {
+        return "refresh:{" + memberId + "}:tokens";
+    }
+
+    private static String generationKey(Long memberId) {
+        return "refresh:{" + memberId + "}:generation";
+    }
+
+    private static String memberKey(Long memberId) {
+        return "refresh:{" + memberId + "}:member";
+    }
+
+    private static RedisScript<Long> script(String name) {
+        return RedisScript.of(new ClassPathResource("scripts/" + name), Long.class);
+    }
+
+    /**
+     * 스크립트가 반환하는 배열은 List 로 변환됨 (제네릭 Class 는 만들 수 없어 캐스팅)
+     */
+    @SuppressWarnings("unchecked")
+    private static RedisScript<List<Object>> listScript(String name) {
+        return RedisScript.of(new ClassPathResource("scripts/" + name), (Class<List<Object>>) (Class<?>) List.class);
+    }
+}
@@ -0,0 +1,192 @@
+package com.batton.memberservice.security;
+
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Decoders;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.cloud.context.environment.EnvironmentChangeEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 토큰 서명/검증 키 묶음
+ * 설정이 바뀌면 새 불변 스냅샷을 만들어 원자적으로 교체하므로 토큰 처리 시 잠금이나 scoped proxy 조회가 없음
+ * 교체 전 키는 그 키로 발급된 토큰이 모두 만료될 때까지 검증용으로 유지함
+ */
+@Slf4j
+@Component
+public class SigningKeyRing implements ApplicationListener<EnvironmentChangeEvent> {
+    private final Environment environment;
+    private volatile Snapshot snapshot;
+
+    public SigningKeyRing(Environment environment) {
+        this.environment = environment;
+        this.snapshot = load(null, System.currentTimeMillis());
+    }
+
+    public Snapshot current() {
+        return snapshot;
+    }
+
+    /**
+     * 설정 갱신 시 token.* 가 바뀌었으면 키 묶음 교체
+     */
+    @Override
+    public void onApplicationEvent(EnvironmentChangeEvent event) {
+        if (event.getKeys().stream().anyMatch(key -> key.startsWith("token."))) {
+            reload();
+        }
+    }
+
+    public synchronized void reload() {
+        Snapshot previous = snapshot;
+        Snapshot next = load(previous, System.currentTimeMillis());
+        snapshot = next;
+
+        log.info("토큰 서명 키 갱신: kid {} -> {}, 검증 키 {}개", previous.getCurrentKey().getKid(), next.getCurrentKey().getKid(),
+                next.getHmacKeys().size() + next.getJwtKeyStore().getVerificationKeys().size());
+    }
+
+    private Snapshot load(Snapshot previous, long now) {
+        long accessExpiration = environment.getRequiredProperty("token.access-expiration-time", Long.class);
+        long refreshExpiration = environment.getRequiredProperty("token.refresh-expiration-time", Long.class);
+        boolean compactAccessToken = environment.getProperty("token.compact-access-token", Boolean.class, false);
+        HmacKey currentKey = HmacKey.of(environment.getRequiredProperty("token.secret"), Long.MAX_VALUE);
+        Map<String, HmacKey> hmacKeys = new LinkedHashMap<>();
+        hmacKeys.put(currentKey.getKid(), currentKey);
+
+        // 설정으로 남겨둔 이전 키 (재시작 후에도 검증 가능)
+        for (String secret : environment.getProperty("token.previous-secrets", String[].class, new String[0])) {
+            HmacKey previousKey = HmacKey.of(secret.trim(), Long.MAX_VALUE);
+            hmacKeys.putIfAbsent(previousKey.getKid(), previousKey);
+        }
+
+        // 교체 전 키는 가장 긴 토큰 수명만큼만 유지
+        long retireAt = previous == null ? now : now + Math.max(previous.getAccessExpiration(), previous.getRefreshExpiration());
+
+        if (previous != null) {
+            for (HmacKey key : previous.getHmacKeys().values()) {
+                if (!hmacKeys.containsKey(key.getKid()) && key.getRetireAt() > now) {
+                    hmacKeys.put(key.getKid(), key.getRetireAt() == Long.MAX_VALUE ? key.retireAt(retireAt) : key);
+                }
+            }
+        }
+        JwtKeyProperties jwtKeyProperties = Binder.get(environment)
+                .bind("token.jwk", JwtKeyProperties.class)
+                .orElseGet(JwtKeyProperties::new);
+        JwtKeyStore jwtKeyStore;
+
+        if (previous == null) {
+            jwtKeyStore = new JwtKeyStore(jwtKeyProperties);
+        } else if (previous.getJwtKeyStore().isLoadedFrom(jwtKeyProperties)) {
+            // token.jwk 설정이 같으면 재사용 (임시 ES256 키가 다시 생성되지 않도록)
+            jwtKeyStore = previous.getJwtKeyStore();
+        } else {
+            jwtKeyStore = new JwtKeyStore(jwtKeyProperties, previous.getJwtKeyStore(), retireAt, now);
+        }
+
+        return new Snapshot(accessExpiration, refreshExpiration, compactAccessToken, currentKey, Collections.unmodifiableMap(hmacKeys),
+                jwtKeyStore);
+    }
+
+    /**
+     * 한 시점의 키 묶음 (불변)
+     */
+    @Getter
+    public static class Snapshot {
+        private final long accessExpiration;
+        private final long refreshExpiration;
+        // 압축 클레임(m, r)으로 액세스 토큰 발급 여부
+        private final boolean compactAccessToken;
+        private final HmacKey currentKey;
+        private final Map<String, HmacKey> hmacKeys;
+        private final JwtKeyStore jwtKeyStore;
+
+        private Snapshot(long accessExpiration, long refreshExpiration, boolean compactAccessToken, HmacKey currentKey,
+                         Map<String, HmacKey> hmacKeys, JwtKeyStore jwtKeyStore) {
+            this.accessExpiration = accessExpiration;
+            this.refreshExpiration = refreshExpiration;
+            this.compactAccessToken = compactAccessToken;
+            this.currentKey = currentKey;
+            this.hmacKeys = hmacKeys;
+            this.jwtKeyStore = jwtKeyStore;
+        }
+
+        /**
+         * 헤더의 alg, kid 로 검증 키 선택
+         * kid 가 없는 HS512 토큰(kid 도입 이전 발급)은 현재 키로 검증
+         */
+        public Key resolveVerificationKey(JwsHeader<?> header) {
+            SignatureAlgorithm algorithm = SignatureAlgorithm.forName(header.getAlgorithm());
+            String kid = header.getKeyId();
+
+            if (algorithm == SignatureAlgorithm.HS512) {
+                HmacKey hmacKey = kid == null ? currentKey : hmacKeys.get(kid);
+
+                if (hmacKey != null && hmacKey.getRetireAt() > System.currentTimeMillis()) {
+                    return hmacKey.getKey();
+                }
+            } else if (algorithm == SignatureAlgorithm.ES256 && kid != null) {
+                Key publicKey = jwtKeyStore.getVerificationKey(kid, System.currentTimeMillis());
+
+                if (publicKey != null) {
+                    return publicKey;
+                }
+            }
+
+            throw new io.jsonwebtoken.security.SignatureException("알 수 없는 서명 키입니다. kid=" + kid);
+        }
+    }
+
+    /**
+     * HS512 공유 비밀 키 (kid 는 키의 SHA-256 앞 8바이트)
+     */
+    @Getter
+    public static class HmacKey {
+        private final String kid;
+        private final SecretKey key;
+        // 이 시각 이후로는 검증에 사용하지 않음
+        private final long retireAt;
+
+        private HmacKey(String kid, SecretKey key, long retireAt) {
+            this.kid = kid;
+            this.key = key;
+            this.retireAt = retireAt;
+        }
+
+        // token.secret 은 base64 문자열 (기존 setSigningKey(String) 과 같은 키)
+        static HmacKey of(String secret, long retireAt) {
+            byte[] keyBytes = Decoders.BASE64.decode(secret);
+
+            return new HmacKey(fingerprint(keyBytes), new SecretKeySpec(keyBytes, SignatureAlgorithm.HS512.getJcaName()), retireAt);
+        }
+
+        HmacKey retireAt(long retireAt) {
+            return new HmacKey(kid, key, retireAt);
+        }
+
+        private static String fingerprint(byte[] keyBytes) {
+            try {
+                byte[] digest = MessageDigest.getInstance("SHA-256").digest(keyBytes);
+
+                return "hs-" + Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(digest, 8));
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package com.batton.memberservice.security;
+
+import com.batton.memberservice.cache.BloomFilter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 폐기된 액세스 토큰(jti) 목록
+ * Redis ZSET(score 는 토큰 만료 시각)에 저장하고 pub/sub 으로 모든 인스턴스에 전파하며,
+ * 각 인스턴스는 Bloom filter + 정확한 집합을 메모리에 두어 요청마다 Redis 를 조회하지 않음
+ */
+@Slf4j
+@Component
+public class TokenDenylist implements MessageListener, SmartInitializingSingleton {
+    public static final String CHANNEL = "token:denylist:revoked";
+    private static final String KEY = "token:denylist";
+    private static final double FALSE_POSITIVE_RATE = 0.001;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisScript<Long> addScript;
+    private final long minExpectedInsertions;
+    private final Counter revokedHitCounter;
+    // jti -> 토큰 만료 시각 (ms)
+    private final ConcurrentHashMap<String, Long> revoked = new ConcurrentHashMap<>();
+    private volatile BloomFilter filter;
+    // 재생성 중 추가된 jti 를 새 필터에도 반영하기 위함
+    private volatile BloomFilter rebuilding;
+
+    public TokenDenylist(StringRedisTemplate redisTemplate, MeterRegistry meterRegistry,
+                         @Value("${token.denylist.expected-insertions:100000}") long minExpectedInsertions) {
+        this.redisTemplate = redisTemplate;
+        this.addScript = RedisScript.of(new ClassPathResource("scripts/token_denylist_add.lua"), Long.class);
+        this.minExpectedInsertions = minExpectedInsertions;
+        this.filter = new BloomFilter(minExpectedInsertions, FALSE_POSITIVE_RATE);
+        this.revokedHitCounter = Counter.builder("auth.token.denylist.hit").register(meterRegistry);
+        Gauge.builder("auth.token.denylist.size", revoked, Map::size).register(meterRegistry);
+    }
+
+    /**
+     * 요청 처리 중 호출 (메모리만 확인)
+     */
+    public boolean isRevoked(String tokenId) {
+        if (tokenId == null || !filter.mightContain(tokenId)) {
+            return false;
+        }
+        Long expiresAt = revoked.get(tokenId);
+
+        if (expiresAt != null && expiresAt > System.currentTimeMillis()) {
+            revokedHitCounter.increment();
+
+            return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * 토큰 폐기 (남은 수명 동안 Redis 에 보관하고 모든 인스턴스에 전파)
+     */
+    public void revoke(String tokenId, long expiresAt) {
+        if (tokenId == null || expiresAt <= System.currentTimeMillis()) {
+            return;
+        }
+        add(tokenId, expiresAt);
+        redisTemplate.execute(addScript, Collections.singletonList(KEY), tokenId, String.valueOf(expiresAt), CHANNEL);
+    }
+
+    /**
+     * 다른 인스턴스의 폐기 전파 수신 ("jti 만료 시각")
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.lastIndexOf(' ');
+
+        try {
+            add(body.substring(0, separator), Long.parseLong(body.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            log.warn("잘못된 토큰 폐기 메시지입니다. {}", body);
+        }
+    }
+
+    /**
+     * 웹 서버가 요청을 받기 전(싱글톤 생성 직후)에 Redis 에서 폐기 목록을 읽어옴
+     * 읽지 못하면 폐기된 토큰을 허용하게 되므로 시작을 중단함
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        try {
+            resync();
+        } catch (RuntimeException e) {
+            throw new IllegalStateException("토큰 폐기 목록을 불러오지 못했습니다.", e);
+        }
+    }
+
+    /**
+     * 주기적으로 Redis 와 다시 맞춤 (구독 시작 전이나 연결이 끊긴 동안 놓친 전파를 보정)
+     */
+    @Scheduled(fixedDelayString = "${token.denylist.resync-interval-ms:60000}",
+            initialDelayString = "${token.denylist.resync-interval-ms:60000}")
+    public void scheduledResync() {
+        try {
+            resync();
+        } catch (RuntimeException e) {
+            log.warn("토큰 폐기 목록 동기화에 실패하였습니다.", e);
+        }
+    }
+
+    /**
+     * 만료된 항목을 정리하고 Redis 의 폐기 목록을 합친 뒤 Bloom filter 재생성
+     */
+    public void resync() {
+        long startTime = System.currentTimeMillis();
+        Set<ZSetOperations.TypedTuple<String>> entries =
+                redisTemplate.opsForZSet().rangeByScoreWithScores(KEY, startTime, Double.POSITIVE_INFINITY);
+
+        if (entries != null) {
+            for (ZSetOperations.TypedTuple<String> entry : entries) {
+                if (entry.getValue() != null && entry.getScore() != null) {
+                    revoked.merge(entry.getValue(), entry.getScore().longValue(), Math::max);
+                }
+            }
+        }
+        revoked.values().removeIf(expiresAt -> expiresAt <= startTime);
+        rebuildFilter();
+        log.info("토큰 폐기 목록 동기화: {}건, {}ms", revoked.size(), System.currentTimeMillis() - startTime);
+    }
+
+    private void rebuildFilter() {
+        BloomFilter next = new BloomFilter(Math.max(minExpectedInsertions, revoked.size() * 2L), FALSE_POSITIVE_RATE);
+
+        synchronized (this) {
+            rebuilding = next;
+        }
+        try {
+            revoked.keySet().forEach(next::put);
+
+            synchronized (this) {
+                filter = next;
+            }
+        } finally {
+            synchronized (this) {
+                rebuilding = null;
+            }
+        }
+    }
+
+    private void add(String tokenId, long expiresAt) {
+        // 집합에 먼저 넣은 뒤 필터에 추가 (필터가 양성이면 집합에 항상 있음)
+        revoked.merge(tokenId, expiresAt, Math::max);
+
+        synchronized (this) {
+            filter.put(tokenId);
+
+            if (rebuilding != null) {
+                rebuilding.put(tokenId);
+            }
+        }
+    }
+}
@@ -1,72 +1,117 @@
 package com.batton.memberservice.security;
 
+import com.batton.memberservice.enums.Authority;
 import io.jsonwebtoken.*;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.cloud.context.config.annotation.RefreshScope;
 import org.springframework.stereotype.Component;
+import java.security.Key;
+import java.security.SecureRandom;
+import java.util.Base64;
 import java.util.Date;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Slf4j
 @Component
-@RefreshScope
 public class TokenProvider {
-    @Value("${token.access-expiration-time}")
-    private long ACCESS_TOKEN_EXPIRATION_TIME;
-    @Value("${token.refresh-expiration-time}")
-    private long REFRESH_TOKEN_EXPIRATION_TIME;
-    @Value("${token.secret}")
-    private String key;
-
-    public String createAccessToken(String memberId, String uri, List<String> roles) {
+    // 압축 액세스 토큰 클레임 (유저 아이디 숫자, 권한 비트 마스크)
+    static final String MEMBER_ID_CLAIM = "m";
+    static final String ROLE_MASK_CLAIM = "r";
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private final SigningKeyRing signingKeyRing;
+    private final JwtParser jwtParser;
+
+    public TokenProvider(SigningKeyRing signingKeyRing) {
+        this.signingKeyRing = signingKeyRing;
+        // 헤더의 alg, kid 로 현재 키 묶음에서 검증 키 선택
+        this.jwtParser = Jwts.parserBuilder().setSigningKeyResolver(new SigningKeyResolverAdapter() {
+            // SigningKeyResolverAdapter 의 시그니처가 raw 타입
+            @Override
+            @SuppressWarnings("rawtypes")
+            public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                return signingKeyRing.current().resolveVerificationKey(header);
+            }
+        }).build();
+    }
+
+    public IssuedToken createAccessToken(String memberId, String uri, List<String> roles) {
+        SigningKeyRing.Snapshot keys = signingKeyRing.current();
+        Date now = new Date();
+        Date expiration = new Date(now.getTime() + keys.getAccessExpiration());
+
+        if (keys.isCompactAccessToken()) {
+            Optional<IssuedToken> compactToken = createCompactAccessToken(keys, memberId, Authority.toMask(roles), expiration);
+
+            if (compactToken.isPresent()) {
+                return compactToken.get();
+            }
+        }
+        String tokenId = newAccessTokenId();
         Claims claims = Jwts.claims().setSubject(memberId);
         claims.put("roles", roles);
 
-        return Jwts.builder()
+        JwtBuilder builder = Jwts.builder()
                 .addClaims(claims)
-                .setExpiration(
-                        new Date(System.currentTimeMillis() + ACCESS_TOKEN_EXPIRATION_TIME)
-                )
-                .setIssuedAt(new Date())
-                .signWith(SignatureAlgorithm.HS512, key)
-                .setIssuer(uri)
-                .compact();
+                .setId(tokenId)
+                .setExpiration(expiration)
+                .setIssuedAt(now)
+                .setIssuer(uri);
+        String token = signAccessToken(keys, builder);
+
+        return new IssuedToken(token, expiration, tokenId);
     }
 
-    public String createKakaoAccessToken(String memberId) {
+    public IssuedToken createKakaoAccessToken(String memberId) {
+        SigningKeyRing.Snapshot keys = signingKeyRing.current();
+        Date now = new Date();
+        Date expiration = new Date(now.getTime() + keys.getAccessExpiration());
+
+        if (keys.isCompactAccessToken()) {
+            Optional<IssuedToken> compactToken = createCompactAccessToken(keys, memberId, 0, expiration);
+
+            if (compactToken.isPresent()) {
+                return compactToken.get();
+            }
+        }
+        String tokenId = newAccessTokenId();
         Claims claims = Jwts.claims().setSubject(memberId);
 
-        return Jwts.builder()
+        JwtBuilder builder = Jwts.builder()
                 .addClaims(claims)
-                .setExpiration(
-                        new Date(System.currentTimeMillis() + ACCESS_TOKEN_EXPIRATION_TIME)
-                )
-                .setIssuedAt(new Date())
-                .signWith(SignatureAlgorithm.HS512, key)
-                .compact();
+                .setId(tokenId)
+                .setExpiration(expiration)
+                .setIssuedAt(now);
+        String token = signAccessToken(keys, builder);
+
+        return new IssuedToken(token, expiration, tokenId);
     }
 
-    public String createRefreshToken() {
+    public IssuedToken createRefreshToken() {
+        SigningKeyRing.Snapshot keys = signingKeyRing.current();
+        Date now = new Date();
+        Date expiration = new Date(now.getTime() + keys.getRefreshExpiration());
+        String refreshTokenId = UUID.randomUUID().toString();
         Claims claims = Jwts.claims();
-        claims.put("value", UUID.randomUUID());
+        claims.put("value", refreshTokenId);
 
-        return Jwts.builder()
+        String token = Jwts.builder()
                 .addClaims(claims)
-                .setExpiration(
-                        new Date(System.currentTimeMillis() + REFRESH_TOKEN_EXPIRATION_TIME)
-                )
-                .setIssuedAt(new Date())
-                .signWith(SignatureAlgorithm.HS512, key)
+                .setExpiration(expiration)
+                .setIssuedAt(now)
+                .setHeaderParam(JwsHeader.KEY_ID, keys.getCurrentKey().getKid())
+                .signWith(keys.getCurrentKey().getKey(), SignatureAlgorithm.HS512)
                 .compact();
+
+        return new IssuedToken(token, expiration, refreshTokenId);
     }
 
-    public boolean validateToken(String token) {
+    /**
+     * 서명 및 만료 검증 후 클레임 반환 (유효하지 않으면 empty)
+     */
+    public Optional<ParsedToken> parse(String token) {
         try {
-            Jwts.parser().setSigningKey(key).parseClaimsJws(token);
-
-            return true;
+            return Optional.of(new ParsedToken(jwtParser.parseClaimsJws(token).getBody(), false));
         } catch (io.jsonwebtoken.security.SecurityException | MalformedJwtException e) {
             log.info("잘못된 JWT 서명입니다.");
         } catch (ExpiredJwtException e) {
@@ -77,36 +122,80 @@ public class TokenProvider {
             log.info("JWT 토큰이 잘못되었습니다.");
         }
 
-        return false;
+        return Optional.empty();
     }
 
-    private Claims getClaimsFromToken(String token) {
+    /**
+     * 서명만 검증하고 만료된 토큰의 클레임도 반환 (재발급 시 만료된 액세스 토큰 확인용)
+     */
+    public Optional<ParsedToken> parseAllowingExpired(String token) {
         try {
-            return Jwts.parser().setSigningKey(key).parseClaimsJws(token).getBody();
+            return Optional.of(new ParsedToken(jwtParser.parseClaimsJws(token).getBody(), false));
         } catch (ExpiredJwtException e) {
-            return e.getClaims();
+            return Optional.of(new ParsedToken(e.getClaims(), true));
+        } catch (JwtException | IllegalArgumentException e) {
+            log.info("잘못된 JWT 토큰입니다.");
         }
-    }
 
-    public String getMemberId(String token) {
-        return getClaimsFromToken(token).getSubject();
+        return Optional.empty();
     }
 
-    public String getRefreshTokenId(String token) {
-        return getClaimsFromToken(token).get("value").toString();
+    public boolean validateToken(String token) {
+        return parse(token).isPresent();
     }
 
-    public Date getExpiredTime(String token) {
-        return getClaimsFromToken(token).getExpiration();
+    /**
+     * 압축 액세스 토큰 발급 (sub, roles, iss, iat 대신 숫자 m 과 권한 비트 마스크 r, jti, exp 만 사용)
+     * 유저 아이디가 숫자가 아니거나 비트가 없는 권한이 있으면 empty (기존 형식으로 발급)
+     */
+    private Optional<IssuedToken> createCompactAccessToken(SigningKeyRing.Snapshot keys, String memberId, int roleMask, Date expiration) {
+        if (roleMask < 0) {
+            return Optional.empty();
+        }
+        long numericMemberId;
+
+        try {
+            numericMemberId = Long.parseLong(memberId);
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+        String tokenId = newAccessTokenId();
+        JwtBuilder builder = Jwts.builder()
+                .claim(MEMBER_ID_CLAIM, numericMemberId)
+                .setId(tokenId)
+                .setExpiration(expiration);
+
+        if (roleMask != 0) {
+            builder.claim(ROLE_MASK_CLAIM, roleMask);
+        }
+
+        return Optional.of(new IssuedToken(signAccessToken(keys, builder), expiration, tokenId));
     }
 
-    public List<String> getRoles(String token) {
-        return (List<String>) getClaimsFromToken(token).get("roles");
+    /**
+     * 액세스 토큰 서명 (ES256 이면 공개 키 kid, HS512 이면 현재 공유 키 kid 를 헤더에 추가)
+     */
+    private String signAccessToken(SigningKeyRing.Snapshot keys, JwtBuilder builder) {
+        JwtKeyStore jwtKeyStore = keys.getJwtKeyStore();
+
+        if (jwtKeyStore.isAsymmetric()) {
+            return builder.setHeaderParam(JwsHeader.KEY_ID, jwtKeyStore.getSigningKid())
+                    .signWith(jwtKeyStore.getSigningKey(), SignatureAlgorithm.ES256)
+                    .compact();
+        }
+
+        return builder.setHeaderParam(JwsHeader.KEY_ID, keys.getCurrentKey().getKid())
+                .signWith(keys.getCurrentKey().getKey(), SignatureAlgorithm.HS512)
+                .compact();
     }
 
-    public boolean equalRefreshTokenId(String refreshTokenId, String refreshToken) {
-        String compareToken = this.getRefreshTokenId(refreshTokenId);
+    /**
+     * 액세스 토큰 jti (폐기 목록 키, 96비트 난수)
+     */
+    private static String newAccessTokenId() {
+        byte[] bytes = new byte[12];
+        RANDOM.nextBytes(bytes);
 
-        return refreshTokenId.equals(compareToken);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
     }
 }
@@ -0,0 +1,93 @@
+package com.batton.memberservice.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 최근 검증된 액세스 토큰 LRU 캐시
+ * 토큰 원문 대신 SHA-256 해시를 키로 사용하고, 각 항목은 토큰 만료 시각에 제거됨
+ * 검증에 실패한 토큰은 캐시하지 않으며, 폐기 목록은 캐시 여부와 관계없이 매번 확인함
+ */
+@Component
+public class VerifiedTokenCache {
+    private final TokenProvider tokenProvider;
+    private final TokenDenylist tokenDenylist;
+    private final Cache<String, ParsedToken> cache;
+    private final Timer verifyTimer;
+
+    public VerifiedTokenCache(TokenProvider tokenProvider, TokenDenylist tokenDenylist, MeterRegistry meterRegistry,
+                              @Value("${token.verified-cache.max-size:50000}") long maxSize) {
+        this.tokenProvider = tokenProvider;
+        this.tokenDenylist = tokenDenylist;
+        this.cache = CaffeineCacheMetrics.monitor(meterRegistry, Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new Expiry<String, ParsedToken>() {
+                    @Override
+                    public long expireAfterCreate(String key, ParsedToken parsedToken, long currentTime) {
+                        return TimeUnit.MILLISECONDS.toNanos(Math.max(0, parsedToken.getExpiration().getTime() - System.currentTimeMillis()));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, ParsedToken parsedToken, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, ParsedToken parsedToken, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build(), "auth.token.verified");
+        this.verifyTimer = Timer.builder("auth.token.verify")
+                .description("캐시 미스 시 토큰 서명 검증 시간")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 캐시에 있으면 서명 검증 생략, 없으면 검증 후 만료 시각까지 캐시
+     */
+    public Optional<ParsedToken> verify(String token) {
+        if (token == null || token.isEmpty()) {
+            return Optional.empty();
+        }
+        String key = hash(token);
+        ParsedToken cached = cache.getIfPresent(key);
+
+        if (cached != null) {
+            return tokenDenylist.isRevoked(cached.getTokenId()) ? Optional.empty() : Optional.of(cached);
+        }
+        long startTime = System.nanoTime();
+        Optional<ParsedToken> parsedToken = tokenProvider.parse(token);
+        verifyTimer.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+
+        // 만료 시각이 없는 토큰은 캐시하지 않음
+        parsedToken.filter(parsed -> parsed.getExpiration() != null)
+                .ifPresent(parsed -> cache.put(key, parsed));
+
+        return parsedToken.filter(parsed -> !tokenDenylist.isRevoked(parsed.getTokenId()));
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
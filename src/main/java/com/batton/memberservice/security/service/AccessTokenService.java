@@ -1,18 +1,18 @@
 package com.batton.memberservice.security.service;
 
-import com.batton.memberservice.security.TokenProvider;
+import com.batton.memberservice.security.VerifiedTokenCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 @Service
 @RequiredArgsConstructor
 public class AccessTokenService {
-    private final TokenProvider tokenProvider;
+    private final VerifiedTokenCache verifiedTokenCache;
 
     public void checkAccessToken(String authorizationHeader) {
-        String token = authorizationHeader.replace("Bearer", "");
+        String token = authorizationHeader.replace("Bearer", "").trim();
 
-        if (!tokenProvider.validateToken(token)) {
+        if (verifiedTokenCache.verify(token).isEmpty()) {
             throw new RuntimeException("Access Token is not Valid");
         }
     }
@@ -1,104 +1,114 @@
 package com.batton.memberservice.security.service;
 
+import com.batton.memberservice.common.BaseException;
 import com.batton.memberservice.domain.Member;
+import com.batton.memberservice.enums.Status;
 import com.batton.memberservice.repository.MemberRepository;
-import com.batton.memberservice.repository.RefreshTokenRepository;
-import com.batton.memberservice.security.RefreshToken;
+import com.batton.memberservice.security.IssuedToken;
+import com.batton.memberservice.security.ParsedToken;
+import com.batton.memberservice.security.RefreshTokenStore;
 import com.batton.memberservice.security.TokenDTO;
+import com.batton.memberservice.security.TokenDenylist;
 import com.batton.memberservice.security.TokenProvider;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
-import java.util.Date;
+import java.util.Collections;
 import java.util.List;
-import java.util.Optional;
-import java.util.stream.Collectors;
 
-@Transactional(readOnly = true)
+import static com.batton.memberservice.common.BaseResponseStatus.INVALID_ACCESS_TOKEN;
+import static com.batton.memberservice.common.BaseResponseStatus.INVALID_REFRESH_TOKEN;
+import static com.batton.memberservice.common.BaseResponseStatus.MEMBER_INVALID_USER_ID;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class RefreshTokenService {
-    private final UserDetailsService userDetailsService;
     private final TokenProvider tokenProvider;
     private final MemberRepository memberRepository;
-    private final RefreshTokenRepository refreshTokenRepository;
-
-    @Transactional
-    public void updateRefreshToken(Long id, String uuid) {
-        Optional<Member> optionalMember = memberRepository.findById(id);
+    private final RefreshTokenStore refreshTokenStore;
+    private final TokenDenylist tokenDenylist;
 
-        if(optionalMember.isEmpty()) {
-            throw new RuntimeException();
-        }
-        Member currentMember = optionalMember.get();
-        refreshTokenRepository.save(RefreshToken.of(currentMember.getId(), uuid));
+    /**
+     * 리프레시 토큰 저장
+     * @param roles 재발급 시 새 액세스 토큰에 넣을 권한
+     * @param status 유저 상태 (모르면 null, 첫 재발급 때 DB 에서 조회)
+     */
+    public void updateRefreshToken(Long id, String uuid, List<String> roles, Status status) {
+        refreshTokenStore.issue(id, uuid, roles, status);
     }
 
-    @Transactional
-    public TokenDTO refreshToken(String accessToken, String refreshToken) {
-        Long currentMemberId = Long.valueOf(tokenProvider.getMemberId(accessToken));
-        String refreshTokenId = tokenProvider.getRefreshTokenId(accessToken);
-        RefreshToken findRefreshToken;
+    /**
+     * 액세스/리프레시 토큰 재발급
+     * Redis 스크립트 한 번으로 리프레시 토큰을 교체하면서 저장된 권한/상태를 받아오므로 보통은 DB 를 조회하지 않음
+     * (트랜잭션을 열지 않아 DB 커넥션도 잡지 않음)
+     */
+    public TokenDTO.TokenData refreshToken(String accessToken, String refreshToken) {
+        // 토큰마다 한 번씩만 파싱 (액세스 토큰은 만료되어도 서명만 확인)
+        ParsedToken parsedAccessToken = tokenProvider.parseAllowingExpired(accessToken)
+                .orElseThrow(() -> new BaseException(INVALID_REFRESH_TOKEN));
+        String refreshTokenId = tokenProvider.parse(refreshToken)
+                .map(ParsedToken::getRefreshTokenId)
+                .filter(tokenId -> parsedAccessToken.getRefreshTokenId() == null)
+                .orElseThrow(() -> new BaseException(INVALID_REFRESH_TOKEN));
+        Long memberId = toMemberId(parsedAccessToken);
 
-        try {
-            findRefreshToken = refreshTokenRepository.findById(refreshTokenId).get();
-        } catch (RuntimeException e) {
-            throw e;
-        }
+        // 사용한 리프레시 토큰은 새 토큰으로 교체 (이미 교체된 토큰이면 전체 폐기)
+        IssuedToken newRefreshToken = tokenProvider.createRefreshToken();
+        RefreshTokenStore.Rotation rotation = refreshTokenStore.rotate(memberId, refreshTokenId, newRefreshToken.getTokenId());
 
-        // refresh token 검증
-        String findRefreshTokenId = findRefreshToken.getRefreshTokenId();
-        if (!tokenProvider.validateToken(refreshToken)) {
-            refreshTokenRepository.delete(findRefreshToken);
-            throw new RuntimeException();
+        if (rotation.getResult() != RefreshTokenStore.RotationResult.ROTATED) {
+            throw new BaseException(INVALID_REFRESH_TOKEN);
         }
-        if (!tokenProvider.equalRefreshTokenId(findRefreshTokenId, refreshToken)) {
-            throw new RuntimeException();
+        List<String> roles = rotation.getRoles();
+        Status status = rotation.getStatus();
+
+        // 권한/상태가 캐시에 없는 경우에만 DB 조회 후 저장
+        if (status == null) {
+            Member member = memberRepository.findById(memberId)
+                    .orElseThrow(() -> new BaseException(MEMBER_INVALID_USER_ID));
+            roles = Collections.singletonList(member.getAuthority().name());
+            status = member.getStatus();
+            refreshTokenStore.cacheMember(memberId, roles, status);
         }
-        Member findMember = memberRepository.findById(Long.valueOf(currentMemberId))
-                .orElseThrow(() -> new RuntimeException());
+        if (status != Status.ENABLED) {
+            refreshTokenStore.revokeAll(memberId);
 
-        // access token 생성
-        Authentication authentication = getAuthentication(findMember.getEmail());
-        List<String> roles = authentication.getAuthorities()
-                .stream().map(GrantedAuthority::getAuthority).collect(Collectors.toList());
-        String newAccessToken = tokenProvider.createAccessToken(String.valueOf(currentMemberId), "/reissu", roles);
-        Date expiredTime = tokenProvider.getExpiredTime(newAccessToken);
+            throw new BaseException(MEMBER_INVALID_USER_ID);
+        }
+        IssuedToken newAccessToken = tokenProvider.createAccessToken(String.valueOf(memberId), "/auth/reissue", roles);
 
-        TokenDTO.TokenData tokenData = TokenDTO.TokenData.builder().accessToken(accessToken)
-                .accessTokenExpiredDate(expiredTime)
-                .refreshToken(refreshToken)
+        return TokenDTO.TokenData.builder().accessToken(newAccessToken.getToken())
+                .accessTokenExpiredDate(newAccessToken.getExpiration())
+                .refreshToken(newRefreshToken.getToken())
                 .build();
-        TokenDTO tokenDTO = TokenDTO.builder()
-                .isSuccess(true)
-                .code(200)
-                .message("로그인 성공하셨습니다.")
-                .result(tokenData)
-                .build();
-
-        return tokenDTO;
     }
 
-    public void logoutToken(String accessToken) {
-        if (!tokenProvider.validateToken(accessToken)) {
-            // 예외 발생
-            throw new RuntimeException("access token is not valid");
+    /**
+     * 로그아웃 (해당 리프레시 토큰 폐기, 액세스 토큰은 만료 전까지 폐기 목록에 추가)
+     */
+    public void logoutToken(String accessToken, String refreshToken) {
+        ParsedToken parsedAccessToken = tokenProvider.parseAllowingExpired(accessToken)
+                .filter(parsedToken -> parsedToken.getRefreshTokenId() == null)
+                .orElseThrow(() -> new BaseException(INVALID_ACCESS_TOKEN));
+        String refreshTokenId = tokenProvider.parseAllowingExpired(refreshToken)
+                .map(ParsedToken::getRefreshTokenId)
+                .orElseThrow(() -> new BaseException(INVALID_REFRESH_TOKEN));
+        Long memberId = toMemberId(parsedAccessToken);
+
+        if (!parsedAccessToken.isExpired() && parsedAccessToken.getTokenId() != null) {
+            tokenDenylist.revoke(parsedAccessToken.getTokenId(), parsedAccessToken.getExpiration().getTime());
+        }
+        if (!refreshTokenStore.revoke(memberId, refreshTokenId)) {
+            throw new BaseException(INVALID_REFRESH_TOKEN);
         }
-        RefreshToken refreshToken = refreshTokenRepository.findById(tokenProvider.getMemberId(accessToken))
-                .orElseThrow(() -> new RuntimeException("refresh Token is not exist"));
-        refreshTokenRepository.delete(refreshToken);
     }
 
-    public Authentication getAuthentication(String email) {
-        UserDetails userDetails = userDetailsService.loadUserByUsername(email);
-
-        return new UsernamePasswordAuthenticationToken(userDetails, userDetails.getPassword(), userDetails.getAuthorities());
+    private static Long toMemberId(ParsedToken parsedToken) {
+        try {
+            return Long.valueOf(parsedToken.getMemberId());
+        } catch (NumberFormatException e) {
+            throw new BaseException(INVALID_REFRESH_TOKEN);
+        }
     }
 }
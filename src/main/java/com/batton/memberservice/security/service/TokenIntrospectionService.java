@@ -0,0 +1,118 @@
+package com.batton.memberservice.security.service;
+
+import com.batton.memberservice.cache.MemberStatusCache;
+import com.batton.memberservice.common.BaseException;
+import com.batton.memberservice.dto.PostTokenIntrospectResDTO;
+import com.batton.memberservice.enums.TokenStatus;
+import com.batton.memberservice.repository.MemberRepository;
+import com.batton.memberservice.security.ParsedToken;
+import com.batton.memberservice.security.TokenDenylist;
+import com.batton.memberservice.security.TokenProvider;
+import com.batton.memberservice.security.VerifiedTokenCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static com.batton.memberservice.common.BaseResponseStatus.TOKEN_BATCH_SIZE_EXCEEDED;
+
+/**
+ * 게이트웨이용 액세스 토큰 일괄 검증
+ * 서명/만료/폐기 여부는 메모리에서 확인하고, 유저 활성화 여부는 단기 캐시 미스분만 한 번의 쿼리로 조회함
+ */
+@Service
+@RequiredArgsConstructor
+public class TokenIntrospectionService {
+    public static final int MAX_BATCH_SIZE = 1000;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final TokenProvider tokenProvider;
+    private final TokenDenylist tokenDenylist;
+    private final MemberStatusCache memberStatusCache;
+    private final MemberRepository memberRepository;
+
+    /**
+     * 요청한 토큰 순서대로 검증 결과 반환
+     */
+    public List<PostTokenIntrospectResDTO> introspect(List<String> tokens) {
+        if (tokens == null) {
+            return Collections.emptyList();
+        }
+        if (tokens.size() > MAX_BATCH_SIZE) {
+            throw new BaseException(TOKEN_BATCH_SIZE_EXCEEDED);
+        }
+        List<ParsedToken> parsedTokens = new ArrayList<>(tokens.size());
+        List<TokenStatus> statuses = new ArrayList<>(tokens.size());
+        Set<Long> memberIds = new LinkedHashSet<>();
+
+        for (String token : tokens) {
+            Optional<ParsedToken> verified = token == null ? Optional.empty() : verifiedTokenCache.verify(token);
+            ParsedToken parsedToken = verified.orElseGet(() -> token == null ? null : tokenProvider.parseAllowingExpired(token).orElse(null));
+            TokenStatus status = verified.isPresent() ? TokenStatus.ACTIVE : failureStatus(parsedToken);
+
+            // 리프레시 토큰 등 유저 아이디가 숫자가 아닌 토큰
+            if (parsedToken != null && toMemberId(parsedToken) == null) {
+                parsedToken = null;
+                status = TokenStatus.INVALID;
+            }
+            if (status == TokenStatus.ACTIVE) {
+                memberIds.add(toMemberId(parsedToken));
+            }
+            parsedTokens.add(parsedToken);
+            statuses.add(status);
+        }
+        Map<Long, Boolean> enabled = memberStatusCache.getEnabled(memberIds, memberRepository::findEnabledIdsByIdIn);
+        List<PostTokenIntrospectResDTO> result = new ArrayList<>(tokens.size());
+
+        for (int i = 0; i < parsedTokens.size(); i++) {
+            ParsedToken parsedToken = parsedTokens.get(i);
+            TokenStatus status = statuses.get(i);
+
+            if (status == TokenStatus.ACTIVE && !Boolean.TRUE.equals(enabled.get(toMemberId(parsedToken)))) {
+                status = TokenStatus.MEMBER_DISABLED;
+            }
+            result.add(toDTO(status, parsedToken));
+        }
+
+        return result;
+    }
+
+    /**
+     * 검증에 실패한 토큰의 사유 (서명이 유효한 경우에만 만료/폐기로 구분)
+     */
+    private TokenStatus failureStatus(ParsedToken parsedToken) {
+        if (parsedToken == null) {
+            return TokenStatus.INVALID;
+        }
+        if (parsedToken.isExpired()) {
+            return TokenStatus.EXPIRED;
+        }
+
+        return tokenDenylist.isRevoked(parsedToken.getTokenId()) ? TokenStatus.REVOKED : TokenStatus.INVALID;
+    }
+
+    private static PostTokenIntrospectResDTO toDTO(TokenStatus status, ParsedToken parsedToken) {
+        if (parsedToken == null) {
+            return PostTokenIntrospectResDTO.builder().status(status).build();
+        }
+
+        return PostTokenIntrospectResDTO.builder()
+                .status(status)
+                .memberId(toMemberId(parsedToken))
+                .roles(parsedToken.getRoles())
+                .expiration(parsedToken.getExpiration())
+                .build();
+    }
+
+    private static Long toMemberId(ParsedToken parsedToken) {
+        try {
+            return parsedToken.getMemberId() == null ? null : Long.valueOf(parsedToken.getMemberId());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
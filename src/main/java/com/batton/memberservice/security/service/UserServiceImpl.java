@@ -1,37 +1,63 @@
 package com.batton.memberservice.security.service;
 
+import com.batton.memberservice.cache.MemberEmailCache;
 import com.batton.memberservice.domain.Member;
+import com.batton.memberservice.enums.Status;
 import com.batton.memberservice.repository.MemberRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Optional;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
-public class UserServiceImpl implements UserDetailsService {
+public class UserServiceImpl implements UserDetailsService, UserDetailsPasswordService {
     private final MemberRepository memberRepository;
+    private final MemberEmailCache memberEmailCache;
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        Optional<Member> optionalMember = memberRepository.findByEmail(username);
+        String emailKey = Member.toEmailKey(username);
+        Optional<Member> optionalMember = memberEmailCache.getMemberId(emailKey, key -> memberRepository.findIdByEmail(username))
+                .flatMap(memberRepository::findById);
 
         if (optionalMember.isEmpty()) {
+            memberEmailCache.evict(emailKey);
             throw new UsernameNotFoundException(username);
         }
         Member currentMember = optionalMember.get();
         Collection<SimpleGrantedAuthority> authorities = new ArrayList<>();
         authorities.add(new SimpleGrantedAuthority(currentMember.getAuthority().toString()));
 
+        // 비활성화된 유저는 DaoAuthenticationProvider 가 DisabledException 으로 거절
         return new User(String.valueOf(currentMember.getId()),
                 currentMember.getPassword(),
+                currentMember.getStatus() == Status.ENABLED,
+                true, true, true,
                 authorities
         );
     }
+
+    /**
+     * 로그인 성공 후 저장된 해시의 cost 가 현재 설정보다 낮을 때 새 해시로 교체
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        memberRepository.findById(Long.valueOf(user.getUsername()))
+                .ifPresent(member -> member.updatePassword(newPassword));
+        log.info("비밀번호 해시 cost 갱신: 유저 {}", user.getUsername());
+
+        return User.withUserDetails(user).password(newPassword).build();
+    }
 }
@@ -1,20 +1,25 @@
 package com.batton.memberservice.service;
 
+import com.batton.memberservice.cache.EmailExistenceFilter;
+import com.batton.memberservice.cache.MemberEmailCache;
+import com.batton.memberservice.cache.MemberProfileCache;
 import com.batton.memberservice.common.BaseException;
+import com.batton.memberservice.common.TransactionHooks;
 import com.batton.memberservice.domain.Member;
 import com.batton.memberservice.dto.GetKakaoKeyResDTO;
 import com.batton.memberservice.dto.PostEmailCheckReqDTO;
 import com.batton.memberservice.dto.PostEmailReqDTO;
 import com.batton.memberservice.dto.PostMemberReqDTO;
 import com.batton.memberservice.enums.Authority;
+import com.batton.memberservice.enums.MemberEventType;
 import com.batton.memberservice.enums.Status;
+import com.batton.memberservice.mq.MemberEventPublisher;
 import com.batton.memberservice.mq.QueueService;
 import com.batton.memberservice.repository.MemberRepository;
+import com.batton.memberservice.security.IssuedToken;
 import com.batton.memberservice.security.service.RefreshTokenService;
 import com.batton.memberservice.security.TokenDTO;
 import com.batton.memberservice.security.TokenProvider;
-import com.google.gson.JsonElement;
-import com.google.gson.JsonParser;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import lombok.extern.slf4j.Slf4j;
@@ -23,15 +28,13 @@ import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.Random;
 
-import java.io.BufferedReader;
-import java.io.IOException;
-import java.io.InputStreamReader;
-import java.net.HttpURLConnection;
-import java.net.URL;
-import java.util.Date;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
 
 import static com.batton.memberservice.common.BaseResponseStatus.*;
 import static com.batton.memberservice.common.ValidationRegex.isRegexEmail;
@@ -47,6 +50,12 @@ public class AuthService {
     private final RedisUtil redisUtil;
     private final TokenProvider tokenProvider;
     private final RefreshTokenService refreshTokenService;
+    private final MemberEmailCache memberEmailCache;
+    private final EmailExistenceFilter emailExistenceFilter;
+    private final MemberProfileCache memberProfileCache;
+    private final MemberEventPublisher memberEventPublisher;
+    private final KakaoApiClient kakaoApiClient;
+    private final TransactionTemplate transactionTemplate;
     @Value("${social-key.vite-kakao-key}")
     private String KEY;
     @Value("${social-key.vite-kakao-redirect}")
@@ -69,6 +78,10 @@ public class AuthService {
 
         Member member = postMemberReqDTO.toEntity(postMemberReqDTO, passwordEncoder.encode(postMemberReqDTO.getPassword()), Authority.ROLE_USER, Status.ENABLED);
         memberRepository.save(member);
+        emailExistenceFilter.add(member.getEmailKey());
+        memberEventPublisher.publish(MemberEventType.MEMBER_CREATED, member);
+        // 유저 변경 전파 (검색 인덱스 반영)
+        memberProfileCache.evict(member.getId());
 
         // 유저 Queue 생성
         queueService.createQueueForMember(member.getId());
@@ -78,109 +91,84 @@ public class AuthService {
 
     /**
      * 카카오 회원가입
+     * 기존 유저는 이메일 키 조회 한 번(캐시 히트 시 DB 조회 없음), 신규 유저는 유니크 인덱스에 맡긴 단일 INSERT 로 처리
      */
     public TokenDTO.TokenData kakaoSignup(String token) {
         // token으로 사용자 정보 가져오기
-        PostMemberReqDTO info = getKakaoInfo(token);
+        PostMemberReqDTO info = kakaoApiClient.getProfile(token);
+        String emailKey = Member.toEmailKey(info.getEmail());
 
-        // 존재하지 않는 이메일(신규 회원)이면 회원가입 자동진행 후 로그인
-        if (memberRepository.findByEmail(info.getEmail()).isEmpty()) {
-
-            Member member = PostMemberReqDTO.toEntity(info,null, Authority.ROLE_USER, Status.ENABLED);
-            Long memberId = memberRepository.save(member).getId();
-
-            String accessToken = tokenProvider.createKakaoAccessToken(memberId.toString());
-            Date expiredTime = tokenProvider.getExpiredTime(accessToken);
-            String refreshToken = tokenProvider.createRefreshToken();
-
-            refreshTokenService.updateRefreshToken(Long.valueOf(memberId), tokenProvider.getRefreshTokenId(refreshToken));
+        Optional<Long> existingMemberId = memberEmailCache.getMemberId(emailKey, key -> memberRepository.findIdByEmail(info.getEmail()));
 
-            TokenDTO.TokenData tokenData = TokenDTO.TokenData.builder().accessToken(accessToken)
-                    .accessTokenExpiredDate(expiredTime)
-                    .refreshToken(refreshToken)
-                    .build();
-
-            return tokenData;
-        } else {
-            // 존재하는 이메일이면 로그인 진행
-            // jwt 생성 후 반환
-            Member member = memberRepository.findByEmail(info.getEmail()).get();
-
-            String accessToken = tokenProvider.createKakaoAccessToken(member.getId().toString());
-            Date expiredTime = tokenProvider.getExpiredTime(accessToken);
-            String refreshToken = tokenProvider.createRefreshToken();
+        // 존재하는 이메일이면 로그인 진행 (권한/상태는 첫 재발급 때 조회)
+        if (existingMemberId.isPresent()) {
+            return issueKakaoTokens(existingMemberId.get(), Collections.emptyList(), null);
+        }
+        // 존재하지 않는 이메일(신규 회원)이면 회원가입 자동진행 후 로그인
+        Optional<Member> createdMember = transactionTemplate.execute(status -> createKakaoMember(info));
 
-            refreshTokenService.updateRefreshToken(Long.valueOf(member.getId()), tokenProvider.getRefreshTokenId(refreshToken));
-            TokenDTO.TokenData tokenData = TokenDTO.TokenData.builder().accessToken(accessToken)
-                    .accessTokenExpiredDate(expiredTime)
-                    .refreshToken(refreshToken)
-                    .build();
+        if (createdMember.isPresent()) {
+            Member member = createdMember.get();
 
-            return tokenData;
+            return issueKakaoTokens(member.getId(), Collections.singletonList(member.getAuthority().name()), member.getStatus());
         }
+        // 동시에 가입한 다른 요청이 먼저 저장한 경우 (INSERT 가 그 트랜잭션의 커밋을 기다렸으므로 바로 조회됨)
+        Long memberId = memberEmailCache.getMemberId(emailKey, key -> memberRepository.findIdByEmail(info.getEmail()))
+                .orElseThrow(() -> new BaseException(SERVER_ERROR));
+
+        return issueKakaoTokens(memberId, Collections.emptyList(), null);
     }
 
     /**
-     * 카카오 서버에서 회원가입에 필요한 사용자 정보 가져오기
+     * 카카오 유저 저장 (이미 있으면 empty)
+     * 저장한 요청만 이벤트 기록, 큐 생성을 수행함
      */
-    public PostMemberReqDTO getKakaoInfo(String token) {
-        String reqURL = "https://kapi.kakao.com/v2/user/me";
-        String email = "";
-        String nickName = "";
-
-        // access_token을 이용하여 사용자 정보 조회
-        try {
-            URL url = new URL(reqURL);
-            HttpURLConnection conn = (HttpURLConnection) url.openConnection();
-
-            conn.setRequestMethod("POST");
-            conn.setDoOutput(true);
-            conn.setRequestProperty("Authorization", "Bearer " + token); //전송할 header 작성, access_token전송
-
-            // 결과 코드가 200이라면 성공
-            int responseCode = conn.getResponseCode();
-            System.out.println("responseCode : " + responseCode);
-
-            // 요청을 통해 얻은 JSON타입의 Response 메세지 읽어오기
-            BufferedReader br = new BufferedReader(new InputStreamReader(conn.getInputStream()));
-            String line = "";
-            String result = "";
-
-            while ((line = br.readLine()) != null) {
-                result += line;
-            }
-            System.out.println("response body : " + result);
-
-            // Gson 라이브러리로 JSON파싱
-            JsonParser parser = new JsonParser();
-            JsonElement element = parser.parse(result);
-            // JsonElement element =  Jsonparser.parseString(result);
+    private Optional<Member> createKakaoMember(PostMemberReqDTO info) {
+        Member member = PostMemberReqDTO.toEntity(info, null, Authority.ROLE_USER, Status.ENABLED);
+        Optional<Long> insertedId = memberRepository.insertIfAbsent(member);
 
-            // 이메일 가져오기
-            boolean hasEmail = element.getAsJsonObject().get("kakao_account").getAsJsonObject().get("has_email").getAsBoolean();
-            if (hasEmail) {
-                email = element.getAsJsonObject().get("kakao_account").getAsJsonObject().get("email").getAsString();
-            }
-            System.out.println("email : " + email);
-
-            // 닉네임 가져오기
-            nickName = element.getAsJsonObject().get("properties").getAsJsonObject().get("nickname").getAsString();
-            System.out.println("email : " + nickName);
-            br.close();
-        } catch (IOException e) {
-            e.printStackTrace();
+        if (insertedId.isEmpty()) {
+            return Optional.empty();
         }
-        PostMemberReqDTO info = new PostMemberReqDTO(email, nickName);
+        Long memberId = insertedId.get();
+        Member createdMember = Member.builder()
+                .id(memberId)
+                .email(member.getEmail())
+                .nickname(member.getNickname())
+                .authority(member.getAuthority())
+                .status(member.getStatus())
+                .build();
+        emailExistenceFilter.add(createdMember.getEmailKey());
+        memberEventPublisher.publish(MemberEventType.MEMBER_CREATED, createdMember);
+        memberProfileCache.evict(memberId);
+        TransactionHooks.afterCommit(() -> {
+            memberEmailCache.put(createdMember.getEmailKey(), memberId);
+            // 유저 Queue 생성
+            queueService.createQueueForMember(memberId);
+        });
+
+        return Optional.of(createdMember);
+    }
+
+    private TokenDTO.TokenData issueKakaoTokens(Long memberId, List<String> roles, Status status) {
+        IssuedToken accessToken = tokenProvider.createKakaoAccessToken(memberId.toString());
+        IssuedToken refreshToken = tokenProvider.createRefreshToken();
+
+        refreshTokenService.updateRefreshToken(memberId, refreshToken.getTokenId(), roles, status);
 
-        return info;
+        return TokenDTO.TokenData.builder().accessToken(accessToken.getToken())
+                .accessTokenExpiredDate(accessToken.getExpiration())
+                .refreshToken(refreshToken.getToken())
+                .build();
     }
 
     /**
      * 검증을 위한 이메일 발송 API
      */
     public String emailCheck(PostEmailReqDTO postEmailReqDTO) {
-        // 이메일 존재 여부 확인
-        if (memberRepository.existsByEmail(postEmailReqDTO.getEmail())) {
+        // 이메일 존재 여부 확인 (Bloom filter 에 없으면 DB 조회 생략)
+        if (emailExistenceFilter.exists(Member.toEmailKey(postEmailReqDTO.getEmail()),
+                emailKey -> memberRepository.existsByEmailKeyOrLegacyEmail(emailKey, postEmailReqDTO.getEmail()))) {
             throw new BaseException(EXIST_EMAIL_ERROR);
         }
         SimpleMailMessage message = new SimpleMailMessage();
@@ -0,0 +1,213 @@
+package com.batton.memberservice.service;
+
+import com.batton.memberservice.common.BaseException;
+import com.batton.memberservice.dto.PostMemberReqDTO;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static com.batton.memberservice.common.BaseResponseStatus.KAKAO_API_ERROR;
+import static com.batton.memberservice.common.BaseResponseStatus.KAKAO_EMAIL_REQUIRED;
+import static com.batton.memberservice.common.BaseResponseStatus.KAKAO_INVALID_TOKEN;
+
+/**
+ * 카카오 사용자 정보 조회 클라이언트
+ * keep-alive 커넥션을 재사용하고, 요청 전체에 제한 시간을 두며, 동시 호출 수 제한과 서킷 브레이커로 카카오 장애가 톰캣 스레드로 번지지 않게 함
+ * 같은 카카오 토큰으로 다시 로그인하면 짧은 시간 동안은 캐시된 정보를 사용함
+ */
+@Slf4j
+@Component
+public class KakaoApiClient {
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final URI userInfoUri;
+    private final Duration timeout;
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+    // 카카오 토큰 원문 대신 SHA-256 해시를 키로 사용
+    private final Cache<String, PostMemberReqDTO> profileCache;
+
+    public KakaoApiClient(ObjectMapper objectMapper, MeterRegistry meterRegistry,
+                          @Value("${kakao.api.user-info-url:https://kapi.kakao.com/v2/user/me}") String userInfoUrl,
+                          @Value("${kakao.api.connect-timeout-ms:1000}") long connectTimeoutMillis,
+                          @Value("${kakao.api.timeout-ms:2000}") long timeoutMillis,
+                          @Value("${kakao.api.max-concurrent-calls:32}") int maxConcurrentCalls,
+                          @Value("${kakao.api.circuit-open-seconds:10}") long circuitOpenSeconds,
+                          @Value("${kakao.api.profile-cache-ttl-seconds:60}") long profileCacheTtlSeconds) {
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.userInfoUri = URI.create(userInfoUrl);
+        this.timeout = Duration.ofMillis(timeoutMillis);
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofMillis(connectTimeoutMillis))
+                .build();
+        // 토큰 오류(4xx)는 카카오 장애가 아니므로 실패율에 포함하지 않음
+        this.circuitBreaker = CircuitBreaker.of("kakao", CircuitBreakerConfig.custom()
+                .slidingWindowSize(20)
+                .minimumNumberOfCalls(10)
+                .failureRateThreshold(50)
+                .slowCallDurationThreshold(this.timeout.dividedBy(2))
+                .slowCallRateThreshold(80)
+                .waitDurationInOpenState(Duration.ofSeconds(circuitOpenSeconds))
+                .ignoreExceptions(BaseException.class)
+                .build());
+        // 꽉 차면 기다리지 않고 바로 거절
+        this.bulkhead = Bulkhead.of("kakao", BulkheadConfig.custom()
+                .maxConcurrentCalls(maxConcurrentCalls)
+                .maxWaitDuration(Duration.ZERO)
+                .build());
+        this.profileCache = CaffeineCacheMetrics.monitor(meterRegistry, Caffeine.newBuilder()
+                .maximumSize(10_000)
+                .expireAfterWrite(Duration.ofSeconds(profileCacheTtlSeconds))
+                .recordStats()
+                .build(), "kakao.profile");
+    }
+
+    /**
+     * 카카오 토큰으로 이메일, 닉네임 조회
+     * 같은 토큰에 대한 동시 요청은 한 번의 호출로 합쳐짐
+     */
+    public PostMemberReqDTO getProfile(String accessToken) {
+        return profileCache.get(hash(accessToken), key -> fetchProfile(accessToken));
+    }
+
+    private PostMemberReqDTO fetchProfile(String accessToken) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String result = "success";
+
+        try {
+            return Bulkhead.decorateSupplier(bulkhead,
+                    CircuitBreaker.decorateSupplier(circuitBreaker, () -> requestProfile(accessToken))).get();
+        } catch (CallNotPermittedException | BulkheadFullException e) {
+            result = "rejected";
+            log.warn("카카오 API 호출이 차단되었습니다. {}", e.getMessage());
+
+            throw new BaseException(KAKAO_API_ERROR);
+        } catch (KakaoApiException e) {
+            result = "error";
+            log.warn("카카오 사용자 정보 조회에 실패하였습니다. {}", e.getMessage());
+
+            throw new BaseException(KAKAO_API_ERROR);
+        } catch (BaseException e) {
+            result = "client_error";
+
+            throw e;
+        } finally {
+            sample.stop(meterRegistry.timer("kakao.api", "result", result));
+        }
+    }
+
+    private PostMemberReqDTO requestProfile(String accessToken) {
+        HttpRequest request = HttpRequest.newBuilder(userInfoUri)
+                .timeout(timeout)
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
+                .POST(HttpRequest.BodyPublishers.noBody())
+                .build();
+        CompletableFuture<HttpResponse<byte[]>> future = httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray());
+        HttpResponse<byte[]> response;
+
+        // 헤더뿐 아니라 본문까지 제한 시간 안에 받아야 함
+        try {
+            response = future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+
+            throw new KakaoApiException("timeout");
+        } catch (ExecutionException e) {
+            throw new KakaoApiException(String.valueOf(e.getCause()));
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+
+            throw new KakaoApiException("interrupted");
+        }
+        if (response.statusCode() == 400 || response.statusCode() == 401) {
+            throw new BaseException(KAKAO_INVALID_TOKEN);
+        }
+        if (response.statusCode() != 200) {
+            throw new KakaoApiException("status " + response.statusCode());
+        }
+
+        return parseProfile(response.body());
+    }
+
+    /**
+     * 필요한 필드가 없거나 형식이 다르면 바로 실패
+     * 이메일은 계정을 구분하는 키이므로 제공하지 않은 사용자는 가입할 수 없음 (카카오 장애가 아니므로 서킷 실패율에 포함하지 않음)
+     */
+    private PostMemberReqDTO parseProfile(byte[] body) {
+        JsonNode root;
+
+        try {
+            root = objectMapper.readTree(body);
+        } catch (IOException e) {
+            throw new KakaoApiException("malformed response");
+        }
+        JsonNode account = root.path("kakao_account");
+        JsonNode hasEmail = account.path("has_email");
+        JsonNode nickname = root.path("properties").path("nickname");
+
+        if (!hasEmail.isBoolean() || !nickname.isTextual()) {
+            throw new KakaoApiException("missing profile fields");
+        }
+        JsonNode emailNode = account.path("email");
+
+        // 이메일 제공에 동의하지 않으면 has_email 이 true 여도 email 없이 email_needs_agreement 만 옴
+        if (!hasEmail.booleanValue() || !emailNode.isTextual() || emailNode.textValue().isBlank()) {
+            throw new BaseException(KAKAO_EMAIL_REQUIRED);
+        }
+
+        return new PostMemberReqDTO(emailNode.textValue(), nickname.textValue());
+    }
+
+    private static String hash(String accessToken) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(accessToken.getBytes(StandardCharsets.UTF_8));
+
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 카카오 장애로 보는 실패 (서킷 브레이커 실패율에 포함)
+     */
+    private static class KakaoApiException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        private KakaoApiException(String message) {
+            super(message, null, false, false);
+        }
+    }
+}
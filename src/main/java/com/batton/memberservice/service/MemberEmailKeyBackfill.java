@@ -0,0 +1,64 @@
+package com.batton.memberservice.service;
+
+import com.batton.memberservice.repository.MemberRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * email_key 컬럼 도입 이전에 가입한 유저 데이터 마이그레이션
+ * 완료 전에도 이메일 조회는 email_key 가 비어 있는 유저를 원본 이메일로 찾으므로 트래픽을 받는 중에 실행해도 됨
+ * 대소문자만 다른 이메일이 이미 있는 유저는 email_key 를 비워 두고 경고 로그로 남김
+ * (이메일 조회는 email_key 가 있는 유저를 우선하므로 로그의 유저는 수동으로 정리)
+ * 컬럼/인덱스가 없는 경우 아래 DDL 을 먼저 적용
+ * ALTER TABLE member ADD COLUMN email_key VARCHAR(255) NULL;
+ * ALTER TABLE member ADD CONSTRAINT uk_member_email_key UNIQUE (email_key);
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MemberEmailKeyBackfill implements ApplicationRunner {
+    private static final int BATCH_SIZE = 1000;
+    private final MemberRepository memberRepository;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long afterId = 0L;
+        int total = 0;
+        int conflicts = 0;
+        List<Long> memberIds;
+
+        // 짧은 트랜잭션으로 나누어 갱신
+        do {
+            memberIds = memberRepository.findIdsWithoutEmailKey(afterId, PageRequest.of(0, BATCH_SIZE));
+
+            if (memberIds.isEmpty()) {
+                break;
+            }
+            try {
+                total += memberRepository.backfillEmailKeys(memberIds);
+            } catch (DataIntegrityViolationException e) {
+                // 충돌한 유저가 섞인 배치는 한 건씩 다시 처리
+                for (Long memberId : memberIds) {
+                    try {
+                        total += memberRepository.backfillEmailKeys(Collections.singletonList(memberId));
+                    } catch (DataIntegrityViolationException conflict) {
+                        conflicts++;
+                        log.warn("대소문자만 다른 이메일이 이미 존재하여 email_key 를 비워 둡니다. memberId={}", memberId);
+                    }
+                }
+            }
+            afterId = memberIds.get(memberIds.size() - 1);
+        } while (memberIds.size() == BATCH_SIZE);
+
+        if (total > 0 || conflicts > 0) {
+            log.info("email_key 마이그레이션 완료: {}건, 충돌 {}건", total, conflicts);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.batton.memberservice.service;
+
+import com.batton.memberservice.dto.GetMemberExportResDTO;
+import com.batton.memberservice.repository.MemberRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+/**
+ * 공개 프로필 전체 NDJSON 내보내기
+ * member_id keyset 으로 청크 단위 조회하며 청크마다 짧은 읽기 트랜잭션만 사용함
+ */
+@Slf4j
+@Service
+public class MemberExportService {
+    private final MemberRepository memberRepository;
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter objectWriter;
+    private final int chunkSize;
+
+    public MemberExportService(MemberRepository memberRepository, ObjectMapper objectMapper,
+                               @Value("${member.export.chunk-size:1000}") int chunkSize) {
+        this.memberRepository = memberRepository;
+        this.objectMapper = objectMapper;
+        // 행마다 flush 하지 않고 청크 단위로 flush
+        this.objectWriter = objectMapper.writerFor(GetMemberExportResDTO.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * afterId 다음 유저부터 한 줄에 한 명씩 출력
+     * @return 마지막으로 출력한 유저 아이디 (이어받기용)
+     */
+    public long exportProfiles(long afterId, OutputStream outputStream) throws IOException {
+        long lastId = afterId;
+        long count = 0;
+        List<GetMemberExportResDTO> chunk;
+
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+            // 응답 스트림은 서블릿 컨테이너가 닫음
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+
+            do {
+                chunk = memberRepository.findExportChunk(lastId, PageRequest.of(0, chunkSize));
+
+                for (GetMemberExportResDTO getMemberExportResDTO : chunk) {
+                    objectWriter.writeValue(generator, getMemberExportResDTO);
+                    generator.writeRaw('\n');
+                    lastId = getMemberExportResDTO.getMemberId();
+                }
+                generator.flush();
+                count += chunk.size();
+            } while (chunk.size() == chunkSize);
+        }
+        log.info("유저 프로필 내보내기 완료: {}건, 마지막 아이디 {}", count, lastId);
+
+        return lastId;
+    }
+}
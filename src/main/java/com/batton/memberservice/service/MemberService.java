@@ -1,19 +1,38 @@
 package com.batton.memberservice.service;
 
+import com.batton.memberservice.cache.MemberEmailCache;
+import com.batton.memberservice.cache.MemberProfile;
+import com.batton.memberservice.cache.MemberProfileCache;
+import com.batton.memberservice.cache.MemberSearchIndex;
 import com.batton.memberservice.common.BaseException;
+import com.batton.memberservice.common.KeysetCursor;
+import com.batton.memberservice.common.TransactionHooks;
 import com.batton.memberservice.domain.Member;
 import com.batton.memberservice.dto.GetMemberInfoResDTO;
+import com.batton.memberservice.dto.GetMemberListResDTO;
+import com.batton.memberservice.dto.GetMemberPageResDTO;
 import com.batton.memberservice.dto.PatchMemberPasswordReqDTO;
 import com.batton.memberservice.dto.client.GetMemberResDTO;
+import com.batton.memberservice.enums.Authority;
+import com.batton.memberservice.enums.MemberEventType;
 import com.batton.memberservice.enums.Status;
+import com.batton.memberservice.mq.MemberEventPublisher;
 import com.batton.memberservice.repository.MemberRepository;
+import com.batton.memberservice.security.RefreshTokenStore;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
-import javax.transaction.Transactional;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import static com.batton.memberservice.common.BaseResponseStatus.*;
 
@@ -22,40 +41,81 @@ import static com.batton.memberservice.common.BaseResponseStatus.*;
 @RequiredArgsConstructor
 @Transactional
 public class MemberService {
+    private static final int MAX_BATCH_SIZE = 5000;
+    private static final int MAX_SEARCH_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
     private final MemberRepository memberRepository;
     private final PasswordEncoder passwordEncoder;
     private final ObjectStorageService objectStorageService;
+    private final MemberProfileCache memberProfileCache;
+    private final MemberEmailCache memberEmailCache;
+    private final MemberSearchIndex memberSearchIndex;
+    private final MemberEventPublisher memberEventPublisher;
+    private final RefreshTokenStore refreshTokenStore;
 
     /**
      * 유저 정보 조회 API(Feign Client)
      * */
+    @Transactional(readOnly = true)
     public GetMemberResDTO getMember(Long memberId) {
-        Optional<Member> member = memberRepository.findById(memberId);
-        GetMemberResDTO getMemberResDTO;
+        GetMemberResDTO getMemberResDTO = GetMemberResDTO.toDTO(getMemberProfile(memberId));
+
+        return getMemberResDTO;
+    }
+
+    /**
+     * 유저 프로필 스냅샷 조회 (조건부 조회 시 본문 생성 전에 ETag 비교용)
+     * */
+    @Transactional(readOnly = true)
+    public MemberProfile getMemberProfile(Long memberId) {
+        Optional<MemberProfile> memberProfile = findMemberProfile(memberId);
 
         // 유저 존재 여부 확인
-        if (member.isPresent() && member.get().getStatus().equals(Status.ENABLED)) {
-            getMemberResDTO = GetMemberResDTO.toDTO(member.get());
-        } else {
+        if (memberProfile.isEmpty()) {
             throw new BaseException(MEMBER_INVALID_USER_ID);
         }
 
-        return getMemberResDTO;
+        return memberProfile.get();
     }
 
     /**
-     * 유저 정보 조회 API
+     * 유저 프로필 스냅샷 조회 (없거나 탈퇴한 유저는 empty)
      * */
-    public GetMemberInfoResDTO getMemberInfo(Long memberId) {
-        Optional<Member> member = memberRepository.findById(memberId);
-        GetMemberInfoResDTO getMemberInfoResDTO;
+    @Transactional(readOnly = true)
+    public Optional<MemberProfile> findMemberProfile(Long memberId) {
+        return memberProfileCache.get(memberId, this::loadMemberProfile);
+    }
 
-        // 유저 존재 여부 확인
-        if (member.isPresent() && member.get().getStatus().equals(Status.ENABLED)) {
-            getMemberInfoResDTO = GetMemberInfoResDTO.toDTO(member.get());
-        } else {
-            throw new BaseException(MEMBER_INVALID_USER_ID);
+    /**
+     * 유저 정보 일괄 조회 API(Feign Client)
+     * 존재하지 않거나 탈퇴한 유저는 null 값으로 응답
+     * */
+    @Transactional(readOnly = true)
+    public Map<Long, GetMemberResDTO> getMembers(List<Long> memberIds) {
+        Set<Long> distinctIds = new LinkedHashSet<>(memberIds);
+        distinctIds.remove(null);
+
+        // 조회 개수 제한
+        if (distinctIds.size() > MAX_BATCH_SIZE) {
+            throw new BaseException(MEMBER_BATCH_SIZE_EXCEEDED);
         }
+        Map<Long, GetMemberResDTO> getMemberResDTOMap = new LinkedHashMap<>();
+        distinctIds.forEach(memberId -> getMemberResDTOMap.put(memberId, null));
+
+        // 한 번의 쿼리로 활성화된 유저만 조회
+        for (MemberProfile memberProfile : memberRepository.findEnabledProfilesByIdIn(distinctIds)) {
+            getMemberResDTOMap.put(memberProfile.getMemberId(), GetMemberResDTO.toDTO(memberProfile));
+        }
+
+        return getMemberResDTOMap;
+    }
+
+    /**
+     * 유저 정보 조회 API
+     * */
+    @Transactional(readOnly = true)
+    public GetMemberInfoResDTO getMemberInfo(Long memberId) {
+        GetMemberInfoResDTO getMemberInfoResDTO = GetMemberInfoResDTO.toDTO(getMemberProfile(memberId));
 
         return getMemberInfoResDTO;
     }
@@ -63,18 +123,51 @@ public class MemberService {
     /**
      * 추가할 프로젝트 멤버 정보 조회 API
      * */
+    @Transactional(readOnly = true)
     public GetMemberInfoResDTO getCheckMember(String email) {
-        Optional<Member> member = memberRepository.findByEmail(email);
-        GetMemberInfoResDTO getMemberInfoResDTO;
+        Optional<MemberProfile> memberProfile = memberEmailCache.getMemberId(Member.toEmailKey(email), emailKey -> memberRepository.findIdByEmail(email))
+                .flatMap(memberId -> memberProfileCache.get(memberId, this::loadMemberProfile));
 
         // 유저 존재 여부 확인
-        if (member.isPresent() && member.get().getStatus().equals(Status.ENABLED)) {
-            getMemberInfoResDTO = GetMemberInfoResDTO.toDTO(member.get());
-        } else {
+        if (memberProfile.isEmpty()) {
             throw new BaseException(MEMBER_INVALID_USER_ID);
         }
 
-        return getMemberInfoResDTO;
+        return GetMemberInfoResDTO.toDTO(memberProfile.get());
+    }
+
+    /**
+     * 유저 목록 조회 API (keyset 페이지네이션)
+     * 다음 페이지 존재 여부 확인을 위해 size + 1 건 조회
+     * */
+    @Transactional(readOnly = true)
+    public GetMemberPageResDTO getMemberPage(String cursor, Status status, Authority authority, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        List<GetMemberListResDTO> getMemberListResDTOList = memberRepository.findPageAfter(
+                KeysetCursor.decode(cursor), status, authority, PageRequest.of(0, pageSize + 1));
+        String nextCursor = null;
+
+        if (getMemberListResDTOList.size() > pageSize) {
+            getMemberListResDTOList = getMemberListResDTOList.subList(0, pageSize);
+            nextCursor = KeysetCursor.encode(getMemberListResDTOList.get(pageSize - 1).getMemberId());
+        }
+
+        return GetMemberPageResDTO.builder()
+                .members(getMemberListResDTOList)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    /**
+     * 추가할 프로젝트 멤버 검색 API (이메일/닉네임 접두사)
+     * */
+    public List<GetMemberInfoResDTO> searchMembers(String keyword, int size) {
+        List<GetMemberInfoResDTO> getMemberInfoResDTOList = memberSearchIndex.search(keyword, Math.min(Math.max(size, 1), MAX_SEARCH_SIZE))
+                .stream()
+                .map(GetMemberInfoResDTO::toDTO)
+                .collect(Collectors.toList());
+
+        return getMemberInfoResDTOList;
     }
 
     /**
@@ -93,6 +186,8 @@ public class MemberService {
                 url = objectStorageService.uploadFile(profileImage);
                 member.get().update(nickname, url);
             }
+            memberEventPublisher.publish(MemberEventType.PROFILE_UPDATED, member.get());
+            memberProfileCache.evict(memberId);
         } else {
             throw new BaseException(MEMBER_INVALID_USER_ID);
         }
@@ -118,6 +213,10 @@ public class MemberService {
                 throw new BaseException(MEMBER_PASSWORD_CONFLICT);
             }
             member.get().updatePassword(passwordEncoder.encode(patchMemberPasswordReqDTO.getChangedPassword()));
+            memberEventPublisher.publish(MemberEventType.PASSWORD_CHANGED, member.get());
+            memberProfileCache.evict(memberId);
+            // 기존 세션(리프레시 토큰) 모두 폐기
+            TransactionHooks.afterCommit(() -> refreshTokenStore.revokeAll(memberId));
         } else {
             throw new BaseException(MEMBER_INVALID_USER_ID);
         }
@@ -125,6 +224,13 @@ public class MemberService {
         return "회원 비밀번호 수정되었습니다.";
     }
 
+    /**
+     * 캐시 미스 시 DB 에서 활성화된 유저 프로필 로드
+     */
+    private Optional<MemberProfile> loadMemberProfile(Long memberId) {
+        return memberRepository.findEnabledProfileById(memberId);
+    }
+
     /**
      * 유저 탈퇴 API
      * */
@@ -0,0 +1,51 @@
+-- 로그인 토큰 버킷 (이메일, 클라이언트 IP)
+-- KEYS[1] 이메일 버킷, KEYS[2] IP 버킷
+-- ARGV[1] 이메일 용량, ARGV[2] 이메일 분당 충전량, ARGV[3] IP 용량, ARGV[4] IP 분당 충전량
+-- 두 버킷 모두 토큰이 있을 때만 하나씩 차감하고 {허용 여부(1/0), 이메일 재시도까지 남은 ms, IP 재시도까지 남은 ms} 반환
+redis.replicate_commands()
+
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+
+local function refill(key, capacity, perMinute)
+    local bucket = redis.call('HMGET', key, 'tokens', 'ts')
+    local tokens = tonumber(bucket[1])
+    local ts = tonumber(bucket[2])
+
+    if tokens == nil or ts == nil then
+        return capacity
+    end
+
+    return math.min(capacity, tokens + math.max(0, now - ts) * perMinute / 60000)
+end
+
+local function save(key, tokens, capacity, perMinute)
+    redis.call('HSET', key, 'tokens', tokens, 'ts', now)
+    -- 가득 찰 때까지 걸리는 시간이 지나면 새 버킷과 같으므로 삭제
+    redis.call('PEXPIRE', key, math.ceil((capacity - tokens) * 60000 / perMinute) + 1000)
+end
+
+local function waitMillis(tokens, perMinute)
+    if tokens >= 1 then
+        return 0
+    end
+
+    return math.ceil((1 - tokens) * 60000 / perMinute)
+end
+
+local emailCapacity = tonumber(ARGV[1])
+local emailPerMinute = tonumber(ARGV[2])
+local ipCapacity = tonumber(ARGV[3])
+local ipPerMinute = tonumber(ARGV[4])
+
+local emailTokens = refill(KEYS[1], emailCapacity, emailPerMinute)
+local ipTokens = refill(KEYS[2], ipCapacity, ipPerMinute)
+
+if emailTokens >= 1 and ipTokens >= 1 then
+    save(KEYS[1], emailTokens - 1, emailCapacity, emailPerMinute)
+    save(KEYS[2], ipTokens - 1, ipCapacity, ipPerMinute)
+
+    return {1, 0, 0}
+end
+
+return {0, waitMillis(emailTokens, emailPerMinute), waitMillis(ipTokens, ipPerMinute)}
@@ -0,0 +1,7 @@
+-- 재발급용 유저 권한/상태 저장 (캐시에 없어 DB 에서 읽은 경우)
+-- KEYS[1] 유저 권한/상태 해시
+-- ARGV[1] 권한 목록(쉼표 구분), ARGV[2] 유저 상태, ARGV[3] 권한/상태 TTL(ms)
+redis.call('HSET', KEYS[1], 'roles', ARGV[1], 'status', ARGV[2])
+redis.call('PEXPIRE', KEYS[1], tonumber(ARGV[3]))
+
+return 1
@@ -0,0 +1,25 @@
+-- 리프레시 토큰 저장
+-- KEYS[1] 토큰 키, KEYS[2] 유저별 토큰 인덱스(ZSET), KEYS[3] 유저별 세대 키, KEYS[4] 유저 권한/상태 해시
+-- ARGV[1] 유저 아이디, ARGV[2] 토큰 아이디, ARGV[3] TTL(ms), ARGV[4] 권한 목록(쉼표 구분), ARGV[5] 유저 상태 (모르면 빈 문자열),
+-- ARGV[6] 권한/상태 TTL(ms)
+-- 토큰 값은 "유저 아이디:세대" 이며 전체 폐기 시 세대가 바뀌어 이전 토큰은 모두 무효가 됨
+redis.replicate_commands()
+
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+local ttl = tonumber(ARGV[3])
+local generation = redis.call('GET', KEYS[3]) or '0'
+
+redis.call('SET', KEYS[1], ARGV[1] .. ':' .. generation, 'PX', ttl)
+redis.call('ZREMRANGEBYSCORE', KEYS[2], '-inf', now)
+redis.call('ZADD', KEYS[2], now + ttl, ARGV[2])
+redis.call('PEXPIRE', KEYS[2], ttl)
+redis.call('PEXPIRE', KEYS[3], ttl)
+
+-- 재발급 시 DB 조회 없이 새 액세스 토큰을 만들기 위한 권한/상태 (변경이 늦게 반영되지 않도록 짧은 고정 TTL)
+if ARGV[5] ~= '' then
+    redis.call('HSET', KEYS[4], 'roles', ARGV[4], 'status', ARGV[5])
+    redis.call('PEXPIRE', KEYS[4], tonumber(ARGV[6]))
+end
+
+return 1
@@ -0,0 +1,14 @@
+-- 리프레시 토큰 하나 폐기 (로그아웃)
+-- KEYS[1] 토큰 키, KEYS[2] 유저별 토큰 인덱스(ZSET)
+-- ARGV[1] 유저 아이디, ARGV[2] 토큰 아이디
+-- 반환값 1 폐기, 0 없거나 다른 유저의 토큰
+local value = redis.call('GET', KEYS[1])
+
+if value and string.sub(value, 1, string.len(ARGV[1]) + 1) == ARGV[1] .. ':' then
+    redis.call('DEL', KEYS[1])
+    redis.call('ZREM', KEYS[2], ARGV[2])
+
+    return 1
+end
+
+return 0
@@ -0,0 +1,9 @@
+-- 유저의 리프레시 토큰 전체 폐기
+-- KEYS[1] 유저별 토큰 인덱스(ZSET), KEYS[2] 유저별 세대 키, KEYS[3] 유저 권한/상태 해시
+-- ARGV[1] TTL(ms)
+-- 토큰 수와 상관없이 세대만 올리고 인덱스는 비동기로 삭제 (남은 토큰 키는 TTL 로 만료)
+local generation = redis.call('INCR', KEYS[2])
+redis.call('PEXPIRE', KEYS[2], tonumber(ARGV[1]))
+redis.call('UNLINK', KEYS[1], KEYS[3])
+
+return generation
@@ -0,0 +1,64 @@
+-- 리프레시 토큰 교체 (재사용 감지)
+-- KEYS[1] 이전 토큰 키, KEYS[2] 이전 토큰 사용 기록 키, KEYS[3] 새 토큰 키, KEYS[4] 유저별 토큰 인덱스(ZSET), KEYS[5] 유저별 세대 키,
+-- KEYS[6] 유저 권한/상태 해시
+-- ARGV[1] 유저 아이디, ARGV[2] 이전 토큰 아이디, ARGV[3] 새 토큰 아이디, ARGV[4] TTL(ms), ARGV[5] 재사용 유예 시간(ms)
+-- 반환값 {1, 권한 목록, 유저 상태} 교체 성공 (권한/상태가 캐시에 없으면 빈 문자열), {0} 없거나 다른 유저의 토큰,
+-- {-1} 유예 시간이 지난 뒤 교체된 토큰 재사용 (해당 유저 토큰 전체 폐기)
+redis.replicate_commands()
+
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+local ttl = tonumber(ARGV[4])
+local grace = tonumber(ARGV[5])
+local generation = redis.call('GET', KEYS[5]) or '0'
+local current = ARGV[1] .. ':' .. generation
+
+-- 새 토큰 저장 후 재발급용 권한/상태 반환
+local function issue_new()
+    redis.call('SET', KEYS[3], current, 'PX', ttl)
+    redis.call('ZREMRANGEBYSCORE', KEYS[4], '-inf', now)
+    redis.call('ZADD', KEYS[4], now + ttl, ARGV[3])
+    redis.call('PEXPIRE', KEYS[4], ttl)
+    redis.call('PEXPIRE', KEYS[5], ttl)
+
+    -- 권한/상태 해시의 TTL 은 연장하지 않음 (저장 후 고정 시간이 지나면 DB 에서 다시 읽음)
+    local member = redis.call('HMGET', KEYS[6], 'roles', 'status')
+
+    return {1, member[1] or '', member[2] or ''}
+end
+
+if redis.call('GET', KEYS[1]) == current then
+    -- 이전 토큰은 남은 수명 동안 사용 기록("유저 아이디:세대|유예 만료 시각")으로 유지
+    local remaining = redis.call('PTTL', KEYS[1])
+    redis.call('DEL', KEYS[1])
+    redis.call('ZREM', KEYS[4], ARGV[2])
+
+    if remaining > 0 then
+        redis.call('SET', KEYS[2], current .. '|' .. (now + grace), 'PX', remaining)
+    end
+
+    return issue_new()
+end
+
+local used = redis.call('GET', KEYS[2])
+if used then
+    local separator = string.find(used, '|', 1, true)
+    local usedBy = separator and string.sub(used, 1, separator - 1) or used
+    local graceUntil = separator and tonumber(string.sub(used, separator + 1)) or 0
+
+    if usedBy == current then
+        if now <= graceUntil then
+            -- 교체 직후의 중복 요청(여러 탭, 응답 유실 후 재시도)은 새 토큰을 하나 더 발급
+            return issue_new()
+        end
+        -- 유예 시간이 지난 뒤 교체된 토큰이 다시 사용됨 (탈취 의심): 세대를 올려 모든 토큰 폐기
+        redis.call('INCR', KEYS[5])
+        redis.call('PEXPIRE', KEYS[5], ttl)
+        redis.call('UNLINK', KEYS[4], KEYS[6])
+        redis.call('DEL', KEYS[2])
+
+        return {-1}
+    end
+end
+
+return {0}
@@ -0,0 +1,22 @@
+-- 액세스 토큰 폐기 목록 추가
+-- KEYS[1] 폐기 목록(ZSET, score 는 토큰 만료 시각)
+-- ARGV[1] jti, ARGV[2] 토큰 만료 시각(ms), ARGV[3] 전파 채널
+-- 만료된 항목을 정리한 뒤 추가하고 모든 인스턴스에 "jti 만료 시각" 전파
+redis.replicate_commands()
+
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+local expiresAt = tonumber(ARGV[2])
+
+redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', now)
+
+if expiresAt > now then
+    redis.call('ZADD', KEYS[1], expiresAt, ARGV[1])
+    -- 목록 전체는 가장 늦게 만료되는 토큰까지만 유지
+    if redis.call('PTTL', KEYS[1]) < expiresAt - now then
+        redis.call('PEXPIREAT', KEYS[1], expiresAt)
+    end
+    redis.call('PUBLISH', ARGV[3], ARGV[1] .. ' ' .. ARGV[2])
+end
+
+return redis.call('ZCARD', KEYS[1])
@@ -1,13 +1,24 @@
+import com.batton.memberservice.cache.EmailExistenceFilter;
+import com.batton.memberservice.cache.MemberEmailCache;
+import com.batton.memberservice.cache.MemberProfile;
+import com.batton.memberservice.cache.MemberProfileCache;
 import com.batton.memberservice.common.BaseException;
+import com.batton.memberservice.common.KeysetCursor;
 import com.batton.memberservice.domain.Member;
 import com.batton.memberservice.dto.GetMemberInfoResDTO;
+import com.batton.memberservice.dto.GetMemberListResDTO;
+import com.batton.memberservice.dto.GetMemberPageResDTO;
+import com.batton.memberservice.dto.PatchMemberPasswordReqDTO;
 import com.batton.memberservice.dto.PostEmailReqDTO;
 import com.batton.memberservice.dto.PostMemberReqDTO;
 import com.batton.memberservice.dto.client.GetMemberResDTO;
 import com.batton.memberservice.enums.Authority;
+import com.batton.memberservice.enums.MemberEventType;
 import com.batton.memberservice.enums.Status;
+import com.batton.memberservice.mq.MemberEventPublisher;
 import com.batton.memberservice.mq.QueueService;
 import com.batton.memberservice.repository.MemberRepository;
+import com.batton.memberservice.security.RefreshTokenStore;
 import com.batton.memberservice.service.AuthService;
 import com.batton.memberservice.service.MemberService;
 import com.batton.memberservice.service.ObjectStorageService;
@@ -20,7 +31,13 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Predicate;
 
 import static org.mockito.Mockito.*;
 import static org.junit.jupiter.api.Assertions.*;
@@ -43,6 +60,16 @@ public class MemberServiceTests {
     private MultipartFile profileImage;
     @Mock
     private ObjectStorageService objectStorageService;
+    @Mock
+    private MemberProfileCache memberProfileCache;
+    @Mock
+    private MemberEmailCache memberEmailCache;
+    @Mock
+    private EmailExistenceFilter emailExistenceFilter;
+    @Mock
+    private MemberEventPublisher memberEventPublisher;
+    @Mock
+    private RefreshTokenStore refreshTokenStore;
 
     @Test
     @DisplayName("유저 회원가입 성공")
@@ -57,6 +84,8 @@ public class MemberServiceTests {
         // then
         assertEquals("회원가입 성공하였습니다.", result);
         verify(memberRepository, times(1)).save(any());
+        verify(emailExistenceFilter, times(1)).add("test@example.com");
+        verify(memberEventPublisher, times(1)).publish(eq(MemberEventType.MEMBER_CREATED), any());
         verify(queueService, times(1)).createQueueForMember(any());
     }
 
@@ -81,11 +110,14 @@ public class MemberServiceTests {
     }
 
     @Test
+    @SuppressWarnings("unchecked")
     @DisplayName("이메일 검증 시 이미 존재하는 이메일 예외 처리")
     public void testEmailCheckExistingEmail() {
         // given
         PostEmailReqDTO postEmailReqDTO = new PostEmailReqDTO("test@email.com");
-        when(memberRepository.existsByEmail(postEmailReqDTO.getEmail())).thenReturn(true);
+        when(emailExistenceFilter.exists(anyString(), any())).thenAnswer(invocation ->
+                ((Predicate<String>) invocation.getArgument(1)).test(invocation.getArgument(0)));
+        when(memberRepository.existsByEmailKeyOrLegacyEmail(postEmailReqDTO.getEmail(), postEmailReqDTO.getEmail())).thenReturn(true);
 
         // when, then
         assertThrows(BaseException.class, () -> authService.emailCheck(postEmailReqDTO));
@@ -96,7 +128,8 @@ public class MemberServiceTests {
     public void testGetMemberSuccess() {
         // given
         Member validMember = new Member(1L, "test@email.com", "nika", "password", Authority.ROLE_USER, "image", Status.ENABLED);
-        when(memberRepository.findById(validMember.getId())).thenReturn(Optional.of(validMember));
+        givenProfileCacheMiss();
+        when(memberRepository.findEnabledProfileById(validMember.getId())).thenReturn(Optional.of(MemberProfile.of(validMember)));
 
         // when
         GetMemberResDTO result = memberService.getMember(validMember.getId());
@@ -110,10 +143,11 @@ public class MemberServiceTests {
     @DisplayName("유저 정보 조회 시 잘못된 아이디 예외 처리")
     public void testGetMemberInvalidUser() {
         // given
-        when(memberRepository.findById(anyLong())).thenReturn(Optional.empty());
+        givenProfileCacheMiss();
+        when(memberRepository.findEnabledProfileById(anyLong())).thenReturn(Optional.empty());
 
         // when, then
-        assertThrows(BaseException.class, () -> memberService.getMember(anyLong()));
+        assertThrows(BaseException.class, () -> memberService.getMember(1L));
     }
 
     @Test
@@ -121,12 +155,87 @@ public class MemberServiceTests {
     public void testGetMemberDisabledUser() {
         // given
         Member disabledMember = new Member(1L, "test@email.com", "nika", "password", Authority.ROLE_USER, "image", Status.DISABLED);
-        when(memberRepository.findById(disabledMember.getId())).thenReturn(Optional.of(disabledMember));
+        givenProfileCacheMiss();
+        when(memberRepository.findEnabledProfileById(disabledMember.getId())).thenReturn(Optional.empty());
 
         // when, then
         assertThrows(BaseException.class, () -> memberService.getMember(disabledMember.getId()));
     }
 
+    @Test
+    @DisplayName("유저 정보 조회 시 캐시 적중이면 DB 조회 생략")
+    public void testGetMemberCacheHit() {
+        // given
+        MemberProfile memberProfile = new MemberProfile(1L, "test@email.com", "nika", "image", null);
+        when(memberProfileCache.get(eq(1L), any())).thenReturn(Optional.of(memberProfile));
+
+        // when
+        GetMemberResDTO result = memberService.getMember(1L);
+
+        // then
+        assertEquals(memberProfile.getNickname(), result.getNickname());
+        verify(memberRepository, never()).findEnabledProfileById(anyLong());
+    }
+
+    @Test
+    @DisplayName("유저 정보 일괄 조회 성공")
+    public void testGetMembersSuccess() {
+        // given
+        Member enabledMember = new Member(1L, "test@email.com", "nika", "password", Authority.ROLE_USER, "image", Status.ENABLED);
+        when(memberRepository.findEnabledProfilesByIdIn(any())).thenReturn(Arrays.asList(MemberProfile.of(enabledMember)));
+
+        // when
+        Map<Long, GetMemberResDTO> result = memberService.getMembers(Arrays.asList(1L, 2L, 3L, 1L));
+
+        // then
+        assertEquals(3, result.size());
+        assertEquals(enabledMember.getNickname(), result.get(1L).getNickname());
+        assertTrue(result.containsKey(2L) && result.get(2L) == null);
+        assertTrue(result.containsKey(3L) && result.get(3L) == null);
+        verify(memberRepository, times(1)).findEnabledProfilesByIdIn(any());
+        verify(memberRepository, never()).findEnabledProfileById(anyLong());
+    }
+
+    @Test
+    @DisplayName("유저 정보 일괄 조회 시 조회 개수 초과 예외 처리")
+    public void testGetMembersBatchSizeExceeded() {
+        // given
+        List<Long> memberIds = new ArrayList<>();
+        for (long i = 1; i <= 5001; i++) {
+            memberIds.add(i);
+        }
+
+        // when, then
+        assertThrows(BaseException.class, () -> memberService.getMembers(memberIds));
+        verify(memberRepository, never()).findEnabledProfilesByIdIn(any());
+    }
+
+    @Test
+    @DisplayName("유저 목록 조회 시 다음 페이지 커서 발급")
+    public void testGetMemberPageNextCursor() {
+        // given
+        List<GetMemberListResDTO> rows = Arrays.asList(
+                new GetMemberListResDTO(1L, "test1@email.com", "nika1", null, Authority.ROLE_USER, Status.ENABLED),
+                new GetMemberListResDTO(2L, "test2@email.com", "nika2", null, Authority.ROLE_USER, Status.ENABLED),
+                new GetMemberListResDTO(3L, "test3@email.com", "nika3", null, Authority.ROLE_USER, Status.ENABLED));
+        when(memberRepository.findPageAfter(eq(0L), eq(Status.ENABLED), isNull(), any())).thenReturn(rows);
+
+        // when
+        GetMemberPageResDTO result = memberService.getMemberPage(null, Status.ENABLED, null, 2);
+
+        // then
+        assertEquals(2, result.getMembers().size());
+        assertEquals(2L, KeysetCursor.decode(result.getNextCursor()));
+    }
+
+    @Test
+    @DisplayName("유저 목록 조회 시 잘못된 커서 예외 처리")
+    public void testGetMemberPageInvalidCursor() {
+        // when, then
+        assertThrows(BaseException.class, () -> memberService.getMemberPage("not-a-cursor", null, null, 20));
+        verify(memberRepository, never()).findPageAfter(anyLong(), any(), any(), any());
+    }
+
     @Test
     @DisplayName("유저 정보 수정 성공")
     public void testPatchMemberSuccess() {
@@ -143,6 +252,8 @@ public class MemberServiceTests {
         assertEquals(imageUrl, result);
         verify(memberRepository, times(1)).findById(member.getId());
         verify(objectStorageService, times(1)).uploadFile(profileImage);
+        verify(memberEventPublisher, times(1)).publish(MemberEventType.PROFILE_UPDATED, member);
+        verify(memberProfileCache, times(1)).evict(member.getId());
     }
 
     @Test
@@ -161,10 +272,13 @@ public class MemberServiceTests {
     public void testGetCheckMemberSuccess() {
         // given
         Member member = new Member(1L, "test@email.com", "nika", "password", Authority.ROLE_USER, "image", Status.ENABLED);
-        when(memberRepository.findByEmail(member.getEmail())).thenReturn(Optional.of(member));
+        givenEmailCacheMiss();
+        givenProfileCacheMiss();
+        when(memberRepository.findIdByEmail("Test@Email.com ")).thenReturn(Optional.of(member.getId()));
+        when(memberRepository.findEnabledProfileById(member.getId())).thenReturn(Optional.of(MemberProfile.of(member)));
 
         // when
-        GetMemberInfoResDTO result = memberService.getCheckMember(member.getEmail());
+        GetMemberInfoResDTO result = memberService.getCheckMember("Test@Email.com ");
 
         // then
         assertNotNull(result);
@@ -175,10 +289,60 @@ public class MemberServiceTests {
     @DisplayName("추가할 유저 정보 조회 시 잘못된 이메일 예외 처리")
     public void testGetCheckMemberInvalidEmail() {
         // given
-        when(memberRepository.findByEmail(anyString())).thenReturn(Optional.empty());
+        givenEmailCacheMiss();
+        when(memberRepository.findIdByEmail(anyString())).thenReturn(Optional.empty());
 
         // when, then
-        assertThrows(BaseException.class, () -> memberService.getCheckMember(anyString()));
+        assertThrows(BaseException.class, () -> memberService.getCheckMember("test@email.com"));
     }
-}
 
+    @Test
+    @DisplayName("유저 비밀번호 변경 시 기존 리프레시 토큰 전체 폐기")
+    public void testPatchMemberPasswordRevokesTokens() {
+        // given
+        Member member = new Member(1L, "test@email.com", "nika", "encoded-password", Authority.ROLE_USER, "image", Status.ENABLED);
+        PatchMemberPasswordReqDTO patchMemberPasswordReqDTO = new PatchMemberPasswordReqDTO("password", "changed", "changed");
+        when(memberRepository.findById(1L)).thenReturn(Optional.of(member));
+        when(passwordEncoder.matches("password", "encoded-password")).thenReturn(true);
+        when(passwordEncoder.encode("changed")).thenReturn("encoded-changed");
+
+        // when
+        memberService.patchMemberPassword(1L, patchMemberPasswordReqDTO);
+
+        // then
+        assertEquals("encoded-changed", member.getPassword());
+        verify(refreshTokenStore).revokeAll(1L);
+    }
+
+    @Test
+    @DisplayName("현재 비밀번호가 틀리면 리프레시 토큰을 폐기하지 않음")
+    public void testPatchMemberPasswordDiscord() {
+        // given
+        Member member = new Member(1L, "test@email.com", "nika", "encoded-password", Authority.ROLE_USER, "image", Status.ENABLED);
+        when(memberRepository.findById(1L)).thenReturn(Optional.of(member));
+        when(passwordEncoder.matches("wrong", "encoded-password")).thenReturn(false);
+
+        // when, then
+        assertThrows(BaseException.class,
+                () -> memberService.patchMemberPassword(1L, new PatchMemberPasswordReqDTO("wrong", "changed", "changed")));
+        verify(refreshTokenStore, never()).revokeAll(anyLong());
+    }
+
+    /**
+     * 캐시 미스 상황을 가정하여 loader 를 그대로 호출
+     */
+    @SuppressWarnings("unchecked")
+    private void givenEmailCacheMiss() {
+        when(memberEmailCache.getMemberId(anyString(), any())).thenAnswer(invocation ->
+                ((Function<String, Optional<Long>>) invocation.getArgument(1)).apply(invocation.getArgument(0)));
+    }
+
+    /**
+     * 캐시 미스 상황을 가정하여 loader 를 그대로 호출
+     */
+    @SuppressWarnings("unchecked")
+    private void givenProfileCacheMiss() {
+        when(memberProfileCache.get(anyLong(), any())).thenAnswer(invocation ->
+                ((Function<Long, Optional<MemberProfile>>) invocation.getArgument(1)).apply(invocation.getArgument(0)));
+    }
+}
@@ -0,0 +1,49 @@
+package com.batton.memberservice.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BloomFilterTests {
+    private static final int INSERTIONS = 100_000;
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    @Test
+    @DisplayName("추가된 값은 항상 포함으로 판단")
+    public void testNoFalseNegative() {
+        // given
+        BloomFilter bloomFilter = new BloomFilter(INSERTIONS, FALSE_POSITIVE_RATE);
+
+        // when
+        for (int i = 0; i < INSERTIONS; i++) {
+            bloomFilter.put("member" + i + "@email.com");
+        }
+
+        // then
+        for (int i = 0; i < INSERTIONS; i++) {
+            assertTrue(bloomFilter.mightContain("member" + i + "@email.com"));
+        }
+    }
+
+    @Test
+    @DisplayName("오탐률이 설정값 근처로 유지")
+    public void testFalsePositiveRate() {
+        // given
+        BloomFilter bloomFilter = new BloomFilter(INSERTIONS, FALSE_POSITIVE_RATE);
+        for (int i = 0; i < INSERTIONS; i++) {
+            bloomFilter.put("member" + i + "@email.com");
+        }
+
+        // when
+        int falsePositives = 0;
+        for (int i = 0; i < INSERTIONS; i++) {
+            if (bloomFilter.mightContain("bot" + i + "@spam.com")) {
+                falsePositives++;
+            }
+        }
+
+        // then
+        assertTrue(falsePositives < INSERTIONS * FALSE_POSITIVE_RATE * 2, "falsePositives=" + falsePositives);
+    }
+}
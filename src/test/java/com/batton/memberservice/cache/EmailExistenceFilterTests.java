@@ -0,0 +1,50 @@
+package com.batton.memberservice.cache;
+
+import com.batton.memberservice.repository.MemberRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+public class EmailExistenceFilterTests {
+    private final MemberRepository memberRepository = mock(MemberRepository.class);
+    private final StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+
+    @Test
+    @DisplayName("다른 인스턴스에서 가입한 이메일도 필터에서 누락되지 않음")
+    public void testAddPropagatedToOtherInstance() {
+        // given
+        when(memberRepository.streamAllEmailKeys()).thenAnswer(invocation -> Stream.empty());
+        EmailExistenceFilter origin = createFilter();
+        EmailExistenceFilter replica = createFilter();
+        doAnswer(invocation -> {
+            replica.onMessage(new DefaultMessage(EmailExistenceFilter.CHANNEL.getBytes(StandardCharsets.UTF_8),
+                    invocation.getArgument(1, String.class).getBytes(StandardCharsets.UTF_8)), null);
+
+            return 1L;
+        }).when(redisTemplate).convertAndSend(eq(EmailExistenceFilter.CHANNEL), anyString());
+
+        // when (트랜잭션 밖이므로 즉시 반영)
+        origin.add("new@email.com");
+
+        // then
+        assertTrue(replica.exists("new@email.com", emailKey -> true));
+        assertFalse(replica.exists("other@email.com", emailKey -> fail("필터에 없는 이메일은 DB 로 확인하지 않아야 함")));
+    }
+
+    private EmailExistenceFilter createFilter() {
+        EmailExistenceFilter filter = new EmailExistenceFilter(memberRepository, redisTemplate, mock(PlatformTransactionManager.class),
+                new SimpleMeterRegistry(), 0.01, 1000);
+        filter.rebuild();
+
+        return filter;
+    }
+}
@@ -0,0 +1,147 @@
+package com.batton.memberservice.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+public class MemberProfileCacheTests {
+    private static final MemberProfile PROFILE = new MemberProfile(1L, "member@email.com", "nika", null, null);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+    @SuppressWarnings("unchecked")
+    private final ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+    private final MemberProfileCache memberProfileCache;
+
+    public MemberProfileCacheTests() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        memberProfileCache = new MemberProfileCache(redisTemplate, objectMapper, meterRegistry, 100, 60, 600, 100);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        memberProfileCache.destroy();
+    }
+
+    @Test
+    @DisplayName("같은 유저에 대한 동시 미스는 한 번만 로드")
+    public void testConcurrentMissesCollapsed() throws Exception {
+        // given
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executorService = Executors.newFixedThreadPool(16);
+        List<Future<Optional<MemberProfile>>> futures = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < 16; i++) {
+            futures.add(executorService.submit(() -> {
+                start.await();
+
+                return memberProfileCache.get(1L, memberId -> {
+                    loads.incrementAndGet();
+                    sleep(100);
+
+                    return Optional.of(PROFILE);
+                });
+            }));
+        }
+        start.countDown();
+
+        // then
+        for (Future<Optional<MemberProfile>> future : futures) {
+            assertEquals("nika", future.get().orElseThrow().getNickname());
+        }
+        executorService.shutdown();
+        assertEquals(1, loads.get());
+        verify(valueOperations, times(1)).set(eq("member:profile:1"), anyString(), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("Redis 히트 시 DB 를 조회하지 않고 히트/미스 지표 기록")
+    public void testRedisHitAndMissMetrics() throws Exception {
+        // given
+        when(valueOperations.get("member:profile:1")).thenReturn(objectMapper.writeValueAsString(PROFILE));
+        AtomicInteger loads = new AtomicInteger();
+
+        // when
+        memberProfileCache.get(1L, memberId -> {
+            loads.incrementAndGet();
+
+            return Optional.of(PROFILE);
+        });
+        memberProfileCache.get(2L, memberId -> {
+            loads.incrementAndGet();
+
+            return Optional.empty();
+        });
+
+        // then
+        assertEquals(1, loads.get());
+        assertEquals(1.0, meterRegistry.get("member.profile.cache.redis").tag("result", "hit").counter().count());
+        assertEquals(1.0, meterRegistry.get("member.profile.cache.redis").tag("result", "miss").counter().count());
+    }
+
+    @Test
+    @DisplayName("무효화 메시지 수신 시 로컬 캐시를 비워 다시 로드")
+    public void testInvalidationMessage() {
+        // given
+        AtomicInteger loads = new AtomicInteger();
+        memberProfileCache.get(1L, memberId -> {
+            loads.incrementAndGet();
+
+            return Optional.of(PROFILE);
+        });
+
+        // when
+        memberProfileCache.onMessage(new DefaultMessage(MemberProfileCache.INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                "1".getBytes(StandardCharsets.UTF_8)), null);
+        memberProfileCache.get(1L, memberId -> {
+            loads.incrementAndGet();
+
+            return Optional.of(PROFILE);
+        });
+
+        // then
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    @DisplayName("삭제 후 지연 시간 뒤 Redis 캐시를 한 번 더 삭제")
+    public void testDelayedSecondEvict() {
+        // when (트랜잭션 밖이므로 즉시 삭제)
+        memberProfileCache.evict(1L);
+
+        // then
+        verify(redisTemplate, times(1)).delete("member:profile:1");
+        verify(redisTemplate, timeout(1_000).times(2)).delete("member:profile:1");
+        verify(redisTemplate, timeout(1_000).times(2)).convertAndSend(MemberProfileCache.INVALIDATION_CHANNEL, "1");
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.batton.memberservice.cache;
+
+import com.batton.memberservice.repository.MemberRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 100만 유저 기준 접두사 검색 지연 시간 측정 (./gradlew benchmark)
+ */
+@Tag("benchmark")
+public class MemberSearchIndexBenchmark {
+    private static final int MEMBER_COUNT = 1_000_000;
+    private static final int QUERY_COUNT = 20_000;
+    private static final String ALPHABET = "abcdefghijklmnopqrstuvwxyz0123456789";
+    private static MemberSearchIndex memberSearchIndex;
+
+    @BeforeAll
+    public static void seed() {
+        memberSearchIndex = new MemberSearchIndex(mock(MemberRepository.class), mock(PlatformTransactionManager.class), new SimpleMeterRegistry());
+        Random random = new Random(42);
+
+        for (long memberId = 1; memberId <= MEMBER_COUNT; memberId++) {
+            String nickname = randomWord(random, 4 + random.nextInt(8));
+            memberSearchIndex.upsert(new MemberProfile(memberId, randomWord(random, 6 + random.nextInt(10)) + "@email.com", nickname, null, null));
+        }
+    }
+
+    @Test
+    @DisplayName("100만 유저 접두사 검색 p99 10ms 이하")
+    public void benchmarkPrefixSearch() {
+        Random random = new Random(7);
+        long[] latencies = new long[QUERY_COUNT];
+
+        for (int i = 0; i < QUERY_COUNT; i++) {
+            String keyword = randomWord(random, 1 + random.nextInt(4));
+            long startTime = System.nanoTime();
+            List<MemberProfile> result = memberSearchIndex.search(keyword, 10);
+            latencies[i] = System.nanoTime() - startTime;
+
+            assertTrue(result.size() <= 10);
+        }
+        Arrays.sort(latencies);
+        double p50 = latencies[QUERY_COUNT / 2] / 1_000_000.0;
+        double p99 = latencies[(int) (QUERY_COUNT * 0.99)] / 1_000_000.0;
+        System.out.printf("members=%d p50=%.3fms p99=%.3fms%n", memberSearchIndex.size(), p50, p99);
+
+        assertEquals(MEMBER_COUNT, memberSearchIndex.size());
+        assertTrue(p99 < 10, "p99=" + p99);
+    }
+
+    private static String randomWord(Random random, int length) {
+        StringBuilder sb = new StringBuilder(length);
+
+        for (int i = 0; i < length; i++) {
+            sb.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+        }
+
+        return sb.toString();
+    }
+}
@@ -0,0 +1,31 @@
+package com.batton.memberservice.cache;
+
+import com.batton.memberservice.repository.MemberRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+public class MemberSearchIndexTests {
+    private final MemberSearchIndex memberSearchIndex = new MemberSearchIndex(mock(MemberRepository.class),
+            mock(PlatformTransactionManager.class), new SimpleMeterRegistry());
+
+    @Test
+    @DisplayName("닉네임 변경 시 이전 닉네임으로 검색되지 않음")
+    public void testUpsertReplacesTerms() {
+        // given
+        memberSearchIndex.upsert(new MemberProfile(1L, "member@email.com", "oldnick", null, null));
+
+        // when
+        memberSearchIndex.upsert(new MemberProfile(1L, "member@email.com", "newnick", null, null));
+
+        // then
+        assertTrue(memberSearchIndex.search("old", 10).isEmpty());
+        assertEquals(Long.valueOf(1L), memberSearchIndex.search("NEW", 10).get(0).getMemberId());
+        assertEquals(1, memberSearchIndex.search("member", 10).size());
+        assertEquals(1, memberSearchIndex.size());
+    }
+}
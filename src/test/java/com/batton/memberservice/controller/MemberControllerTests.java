@@ -0,0 +1,138 @@
+package com.batton.memberservice.controller;
+
+import com.batton.memberservice.cache.MemberProfile;
+import com.batton.memberservice.common.ExceptionAdvice;
+import com.batton.memberservice.security.InternalCallerVerifier;
+import com.batton.memberservice.service.MemberExportService;
+import com.batton.memberservice.service.MemberService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import java.time.LocalDateTime;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(MockitoExtension.class)
+public class MemberControllerTests {
+    @Mock
+    private MemberService memberService;
+    @Mock
+    private MemberExportService memberExportService;
+    private MockMvc mockMvc;
+    private final MemberProfile memberProfile =
+            new MemberProfile(1L, "test@email.com", "nika", "image", LocalDateTime.of(2023, 7, 1, 12, 0));
+
+    @BeforeEach
+    public void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(new MemberController(memberService, memberExportService,
+                        new InternalCallerVerifier("internal-secret")))
+                .setControllerAdvice(new ExceptionAdvice())
+                .build();
+        // HeaderAuthorizationFilter 가 1번 유저의 액세스 토큰으로 인증한 상태
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken("1", null, Collections.emptyList()));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("유저 정보 조회 시 ETag, Last-Modified 헤더 응답")
+    public void testGetMemberWithValidators() throws Exception {
+        // given
+        when(memberService.getMemberProfile(1L)).thenReturn(memberProfile);
+
+        // when, then
+        mockMvc.perform(get("/members/1").header(InternalCallerVerifier.HEADER, "internal-secret"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, memberProfile.entityTag()))
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                .andExpect(jsonPath("$.nickname").value("nika"));
+    }
+
+    @Test
+    @DisplayName("ETag 가 일치하면 본문 없이 304 응답")
+    public void testGetMemberNotModified() throws Exception {
+        // given
+        when(memberService.getMemberProfile(1L)).thenReturn(memberProfile);
+
+        // when
+        MvcResult result = mockMvc.perform(get("/members/1").header(InternalCallerVerifier.HEADER, "internal-secret")
+                        .header(HttpHeaders.IF_NONE_MATCH, memberProfile.entityTag()))
+                .andExpect(status().isNotModified())
+                .andReturn();
+
+        // then
+        assertEquals(0, result.getResponse().getContentLength());
+        assertTrue(result.getResponse().getContentAsString().isEmpty());
+    }
+
+    @Test
+    @DisplayName("프로필이 수정되면 이전 ETag 로 요청해도 200 응답")
+    public void testGetMemberInfoModified() throws Exception {
+        // given
+        MemberProfile updatedProfile = new MemberProfile(1L, "test@email.com", "nika2", "image", LocalDateTime.of(2023, 7, 2, 12, 0));
+        when(memberService.getMemberProfile(1L)).thenReturn(updatedProfile);
+
+        // when, then
+        mockMvc.perform(get("/members").header("memberId", 1L).header(HttpHeaders.IF_NONE_MATCH, memberProfile.entityTag()))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, updatedProfile.entityTag()))
+                .andExpect(jsonPath("$.result.nickname").value("nika2"));
+    }
+
+    @Test
+    @DisplayName("memberId 헤더가 없으면 액세스 토큰의 유저 정보 조회")
+    public void testGetMemberInfoWithoutHeader() throws Exception {
+        // given
+        when(memberService.getMemberProfile(1L)).thenReturn(memberProfile);
+
+        // when, then
+        mockMvc.perform(get("/members"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.result.nickname").value("nika"));
+    }
+
+    @Test
+    @DisplayName("memberId 헤더가 액세스 토큰의 유저와 다르면 거절")
+    public void testMemberIdHeaderMismatch() throws Exception {
+        // when, then
+        mockMvc.perform(get("/members").header("memberId", 2L))
+                .andExpect(jsonPath("$.code").value(615));
+        mockMvc.perform(patch("/members/password").header("memberId", 2L)
+                        .contentType(MediaType.APPLICATION_JSON).content("{}"))
+                .andExpect(jsonPath("$.code").value(615));
+        verifyNoInteractions(memberService);
+    }
+
+    @Test
+    @DisplayName("내부 서비스용 API 는 공유 비밀 값이 없으면 유저 토큰이 있어도 거절")
+    public void testInternalCallerRequired() throws Exception {
+        // when, then
+        mockMvc.perform(get("/members/1"))
+                .andExpect(jsonPath("$.code").value(616));
+        mockMvc.perform(post("/members/batch").contentType(MediaType.APPLICATION_JSON).content("[1, 2]"))
+                .andExpect(jsonPath("$.code").value(616));
+        mockMvc.perform(get("/members/export").header(InternalCallerVerifier.HEADER, "wrong-secret"))
+                .andExpect(jsonPath("$.code").value(616));
+        verifyNoInteractions(memberService, memberExportService);
+    }
+}
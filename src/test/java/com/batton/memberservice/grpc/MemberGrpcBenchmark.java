@@ -0,0 +1,166 @@
+package com.batton.memberservice.grpc;
+
+import com.batton.memberservice.cache.MemberProfile;
+import com.batton.memberservice.dto.client.GetMemberResDTO;
+import com.batton.memberservice.grpc.proto.GetMemberRequest;
+import com.batton.memberservice.grpc.proto.GetMembersRequest;
+import com.batton.memberservice.grpc.proto.GetMembersResponse;
+import com.batton.memberservice.grpc.proto.MemberLookupGrpc;
+import com.batton.memberservice.service.MemberService;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.grpc.ManagedChannel;
+import io.grpc.ManagedChannelBuilder;
+import io.grpc.Server;
+import io.grpc.ServerBuilder;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 단건/일괄 조회의 REST(JSON, HTTP/1.1) 와 gRPC(protobuf, HTTP/2) 응답 크기 및 p99 지연 시간 비교 (./gradlew benchmark)
+ * 두 쪽 모두 같은 MemberService 결과를 사용하며, REST 쪽은 Spring MVC 대신 JDK HttpServer + Jackson 으로 직렬화 비용만 재현함
+ */
+@Tag("benchmark")
+public class MemberGrpcBenchmark {
+    private static final int WARMUP = 2_000;
+    private static final int ROUNDS = 10_000;
+    private static final int BATCH_SIZE = 100;
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final List<Long> batchIds = new ArrayList<>();
+    private static Server grpcServer;
+    private static ManagedChannel channel;
+    private static HttpServer httpServer;
+    private static HttpClient httpClient;
+    private static String baseUrl;
+
+    @BeforeAll
+    public static void setUp() throws IOException {
+        MemberService memberService = mock(MemberService.class);
+        when(memberService.findMemberProfile(anyLong())).thenAnswer(invocation -> {
+            Long memberId = invocation.getArgument(0);
+
+            return Optional.of(new MemberProfile(memberId, "member" + memberId + "@email.com", "nika" + memberId,
+                    "https://kr.object.ncloudstorage.com/batton/profile/" + memberId + ".png", null));
+        });
+        when(memberService.getMembers(any())).thenAnswer(invocation -> {
+            Map<Long, GetMemberResDTO> getMemberResDTOMap = new LinkedHashMap<>();
+            for (Long memberId : invocation.<List<Long>>getArgument(0)) {
+                getMemberResDTOMap.put(memberId, new GetMemberResDTO("nika" + memberId,
+                        "https://kr.object.ncloudstorage.com/batton/profile/" + memberId + ".png"));
+            }
+
+            return getMemberResDTOMap;
+        });
+        for (long memberId = 1; memberId <= BATCH_SIZE; memberId++) {
+            batchIds.add(memberId);
+        }
+
+        grpcServer = ServerBuilder.forPort(0).addService(new MemberGrpcService(memberService)).build().start();
+        channel = ManagedChannelBuilder.forAddress("localhost", grpcServer.getPort()).usePlaintext().build();
+
+        httpServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        httpServer.createContext("/members/batch", exchange -> {
+            List<Long> memberIds = objectMapper.readValue(exchange.getRequestBody(), new TypeReference<List<Long>>() { });
+            write(exchange, objectMapper.writeValueAsBytes(memberService.getMembers(memberIds)));
+        });
+        httpServer.createContext("/members/", exchange -> {
+            Long memberId = Long.valueOf(exchange.getRequestURI().getPath().substring("/members/".length()));
+            write(exchange, objectMapper.writeValueAsBytes(GetMemberResDTO.toDTO(memberService.findMemberProfile(memberId).get())));
+        });
+        httpServer.start();
+        httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        baseUrl = "http://localhost:" + httpServer.getAddress().getPort();
+    }
+
+    @AfterAll
+    public static void tearDown() {
+        channel.shutdownNow();
+        grpcServer.shutdownNow();
+        httpServer.stop(0);
+    }
+
+    @Test
+    @DisplayName("단건 조회 REST vs gRPC")
+    public void benchmarkSingleLookup() throws Exception {
+        MemberLookupGrpc.MemberLookupBlockingStub stub = MemberLookupGrpc.newBlockingStub(channel);
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/members/42")).GET().build();
+
+        int restBytes = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray()).body().length;
+        int grpcBytes = stub.getMember(GetMemberRequest.newBuilder().setMemberId(42L).build()).getSerializedSize();
+        double restP99 = p99(() -> httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray()));
+        double grpcP99 = p99(() -> stub.getMember(GetMemberRequest.newBuilder().setMemberId(42L).build()));
+
+        System.out.printf("single: rest=%dB p99=%.3fms, grpc=%dB p99=%.3fms%n", restBytes, restP99, grpcBytes, grpcP99);
+        assertTrue(grpcBytes < restBytes);
+    }
+
+    @Test
+    @DisplayName("일괄 조회(100명) REST vs gRPC")
+    public void benchmarkBatchLookup() throws Exception {
+        MemberLookupGrpc.MemberLookupBlockingStub stub = MemberLookupGrpc.newBlockingStub(channel);
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/members/batch"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(batchIds)))
+                .build();
+        GetMembersRequest grpcRequest = GetMembersRequest.newBuilder().addAllMemberIds(batchIds).build();
+
+        int restBytes = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray()).body().length;
+        GetMembersResponse grpcResponse = stub.getMembers(grpcRequest);
+        double restP99 = p99(() -> httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray()));
+        double grpcP99 = p99(() -> stub.getMembers(grpcRequest));
+
+        System.out.printf("batch(%d): rest=%dB p99=%.3fms, grpc=%dB p99=%.3fms%n",
+                BATCH_SIZE, restBytes, restP99, grpcResponse.getSerializedSize(), grpcP99);
+        assertEquals(BATCH_SIZE, grpcResponse.getMembersCount());
+        assertTrue(grpcResponse.getSerializedSize() < restBytes);
+    }
+
+    private static double p99(Callable<?> call) throws Exception {
+        for (int i = 0; i < WARMUP; i++) {
+            call.call();
+        }
+        long[] latencies = new long[ROUNDS];
+
+        for (int i = 0; i < ROUNDS; i++) {
+            long startTime = System.nanoTime();
+            call.call();
+            latencies[i] = System.nanoTime() - startTime;
+        }
+        Arrays.sort(latencies);
+
+        return latencies[(int) (ROUNDS * 0.99)] / 1_000_000.0;
+    }
+
+    private static void write(HttpExchange exchange, byte[] body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(body);
+        }
+    }
+}
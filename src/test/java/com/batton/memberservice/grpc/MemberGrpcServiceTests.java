@@ -0,0 +1,168 @@
+package com.batton.memberservice.grpc;
+
+import com.batton.memberservice.cache.MemberProfile;
+import com.batton.memberservice.common.BaseException;
+import com.batton.memberservice.dto.client.GetMemberResDTO;
+import com.batton.memberservice.grpc.proto.GetMemberRequest;
+import com.batton.memberservice.grpc.proto.GetMembersRequest;
+import com.batton.memberservice.grpc.proto.GetMembersResponse;
+import com.batton.memberservice.grpc.proto.MemberLookupGrpc;
+import com.batton.memberservice.grpc.proto.MemberLookupResult;
+import com.batton.memberservice.grpc.proto.MemberMessage;
+import com.batton.memberservice.security.InternalCallerVerifier;
+import com.batton.memberservice.service.MemberService;
+import io.grpc.ManagedChannel;
+import io.grpc.Metadata;
+import io.grpc.Server;
+import io.grpc.ServerInterceptors;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.MetadataUtils;
+import io.grpc.stub.StreamObserver;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static com.batton.memberservice.common.BaseResponseStatus.MEMBER_INVALID_USER_ID;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class MemberGrpcServiceTests {
+    @Mock
+    private MemberService memberService;
+    private String serverName;
+    private Server server;
+    private ManagedChannel channel;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        serverName = InProcessServerBuilder.generateName();
+        server = InProcessServerBuilder.forName(serverName).directExecutor()
+                .addService(ServerInterceptors.intercept(new MemberGrpcService(memberService),
+                        new InternalCallerInterceptor(new InternalCallerVerifier("internal-secret"))))
+                .build().start();
+        Metadata headers = new Metadata();
+        headers.put(InternalCallerInterceptor.INTERNAL_TOKEN, "internal-secret");
+        channel = InProcessChannelBuilder.forName(serverName).directExecutor()
+                .intercept(MetadataUtils.newAttachHeadersInterceptor(headers)).build();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        channel.shutdownNow();
+        server.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("gRPC 유저 정보 조회 성공")
+    public void testGetMember() {
+        // given
+        when(memberService.findMemberProfile(1L)).thenReturn(Optional.of(new MemberProfile(1L, "test@email.com", "nika", null, null)));
+
+        // when
+        MemberMessage result = MemberLookupGrpc.newBlockingStub(channel).getMember(GetMemberRequest.newBuilder().setMemberId(1L).build());
+
+        // then
+        assertEquals("nika", result.getNickname());
+        assertFalse(result.hasProfileImage());
+    }
+
+    @Test
+    @DisplayName("gRPC 유저 정보 일괄 조회 시 없는 유저는 missing_ids 로 응답")
+    public void testGetMembers() {
+        // given
+        Map<Long, GetMemberResDTO> getMemberResDTOMap = new LinkedHashMap<>();
+        getMemberResDTOMap.put(1L, new GetMemberResDTO("nika", "image"));
+        getMemberResDTOMap.put(2L, null);
+        when(memberService.getMembers(Arrays.asList(1L, 2L))).thenReturn(getMemberResDTOMap);
+
+        // when
+        GetMembersResponse result = MemberLookupGrpc.newBlockingStub(channel)
+                .getMembers(GetMembersRequest.newBuilder().addMemberIds(1L).addMemberIds(2L).build());
+
+        // then
+        assertEquals(1, result.getMembersCount());
+        assertEquals("image", result.getMembers(0).getProfileImage());
+        assertEquals(Arrays.asList(2L), result.getMissingIdsList());
+    }
+
+    @Test
+    @DisplayName("gRPC 스트리밍 조회 시 요청 순서대로 응답")
+    public void testStreamMembers() throws Exception {
+        // given
+        when(memberService.findMemberProfile(1L)).thenReturn(Optional.of(new MemberProfile(1L, "test@email.com", "nika", "image", null)));
+        when(memberService.findMemberProfile(2L)).thenReturn(Optional.empty());
+        List<MemberLookupResult> results = new ArrayList<>();
+        CountDownLatch completed = new CountDownLatch(1);
+
+        // when
+        StreamObserver<GetMemberRequest> requestObserver = MemberLookupGrpc.newStub(channel).streamMembers(new StreamObserver<>() {
+            @Override
+            public void onNext(MemberLookupResult result) {
+                results.add(result);
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                completed.countDown();
+            }
+
+            @Override
+            public void onCompleted() {
+                completed.countDown();
+            }
+        });
+        requestObserver.onNext(GetMemberRequest.newBuilder().setMemberId(1L).build());
+        requestObserver.onNext(GetMemberRequest.newBuilder().setMemberId(2L).build());
+        requestObserver.onCompleted();
+
+        // then
+        assertTrue(completed.await(5, TimeUnit.SECONDS));
+        assertEquals(2, results.size());
+        assertTrue(results.get(0).getFound());
+        assertEquals("nika", results.get(0).getMember().getNickname());
+        assertFalse(results.get(1).getFound());
+        assertEquals(2L, results.get(1).getMemberId());
+    }
+
+    @Test
+    @DisplayName("공유 비밀 값 없이 호출하면 UNAUTHENTICATED 로 거절")
+    public void testInternalCallerRequired() {
+        // given
+        ManagedChannel unauthenticated = InProcessChannelBuilder.forName(serverName).directExecutor().build();
+
+        // when
+        StatusRuntimeException exception = assertThrows(StatusRuntimeException.class, () ->
+                MemberLookupGrpc.newBlockingStub(unauthenticated).getMember(GetMemberRequest.newBuilder().setMemberId(1L).build()));
+        unauthenticated.shutdownNow();
+
+        // then
+        assertEquals(Status.Code.UNAUTHENTICATED, exception.getStatus().getCode());
+        verifyNoInteractions(memberService);
+    }
+
+    @Test
+    @DisplayName("BaseException 을 gRPC 상태 코드로 변환")
+    public void testExceptionAdvice() {
+        // when
+        Status status = new GrpcExceptionAdvice().baseException(new BaseException(MEMBER_INVALID_USER_ID));
+
+        // then
+        assertEquals(Status.Code.NOT_FOUND, status.getCode());
+    }
+}
@@ -0,0 +1,171 @@
+package com.batton.memberservice.mq;
+
+import com.batton.memberservice.domain.Member;
+import com.batton.memberservice.enums.Authority;
+import com.batton.memberservice.enums.MemberEventType;
+import com.batton.memberservice.enums.Status;
+import com.batton.memberservice.repository.MemberOutboxRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.AmqpConnectException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.net.ConnectException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class MemberEventRelayTests {
+    @Autowired
+    private MemberOutboxRepository memberOutboxRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final InMemoryBroker broker = new InMemoryBroker();
+    private TransactionTemplate transactionTemplate;
+    private MemberEventPublisher memberEventPublisher;
+    private MemberEventRelay memberEventRelay;
+
+    @BeforeEach
+    public void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        memberEventPublisher = new MemberEventPublisher(memberOutboxRepository, objectMapper);
+        memberEventRelay = new MemberEventRelay(memberOutboxRepository, broker, transactionManager, 2, 1000, 24);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        memberOutboxRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("커밋된 이벤트를 배치 단위로 발행 후 발행 완료 처리")
+    public void testRelayCommittedEvents() throws Exception {
+        // given
+        publishInTransaction(MemberEventType.MEMBER_CREATED, 1L);
+        publishInTransaction(MemberEventType.PROFILE_UPDATED, 1L);
+        publishInTransaction(MemberEventType.PASSWORD_CHANGED, 2L);
+
+        // when
+        int published = memberEventRelay.relay();
+
+        // then
+        assertEquals(3, published);
+        assertEquals(3, broker.delivered.size());
+        assertEquals(MemberEventRelay.EXCHANGE, broker.delivered.get(0).exchange);
+        assertEquals("member.created", broker.delivered.get(0).routingKey);
+        assertEquals("member.password.changed", broker.delivered.get(2).routingKey);
+        JsonNode body = objectMapper.readTree(broker.delivered.get(1).message.getBody());
+        assertEquals("PROFILE_UPDATED", body.get("eventType").asText());
+        assertEquals("nika1", body.get("nickname").asText());
+        assertTrue(memberOutboxRepository.findAll().stream().allMatch(outbox -> outbox.getPublishedAt() != null));
+    }
+
+    @Test
+    @DisplayName("롤백된 트랜잭션의 이벤트는 발행하지 않음")
+    public void testRolledBackEventNotPublished() {
+        // given
+        transactionTemplate.executeWithoutResult(status -> {
+            memberEventPublisher.publish(MemberEventType.MEMBER_CREATED, member(1L));
+            status.setRollbackOnly();
+        });
+
+        // when
+        int published = memberEventRelay.relay();
+
+        // then
+        assertEquals(0, published);
+        assertTrue(broker.delivered.isEmpty());
+    }
+
+    @Test
+    @DisplayName("브로커 장애 시 이벤트를 보관했다가 복구 후 발행")
+    public void testRetryAfterBrokerDown() {
+        // given
+        publishInTransaction(MemberEventType.MEMBER_CREATED, 1L);
+        broker.down = true;
+
+        // when
+        int publishedWhileDown = memberEventRelay.relay();
+        broker.down = false;
+        int publishedAfterRecovery = memberEventRelay.relay();
+
+        // then
+        assertEquals(0, publishedWhileDown);
+        assertEquals(1, publishedAfterRecovery);
+        assertEquals(1, broker.delivered.size());
+        assertEquals(0, memberEventRelay.relay());
+    }
+
+    private void publishInTransaction(MemberEventType eventType, Long memberId) {
+        transactionTemplate.executeWithoutResult(status -> memberEventPublisher.publish(eventType, member(memberId)));
+    }
+
+    private static Member member(Long memberId) {
+        return new Member(memberId, "test" + memberId + "@email.com", "nika" + memberId, "password", Authority.ROLE_USER, null, Status.ENABLED);
+    }
+
+    /**
+     * 채널 단위 전송과 publisher confirm 을 흉내내는 인메모리 브로커
+     * confirm 이 성공한 메시지만 delivered 로 옮김
+     */
+    private static class InMemoryBroker extends RabbitTemplate {
+        private final List<Delivery> delivered = new ArrayList<>();
+        private final ThreadLocal<List<Delivery>> unconfirmed = ThreadLocal.withInitial(ArrayList::new);
+        private volatile boolean down;
+
+        @Override
+        public <T> T invoke(OperationsCallback<T> action, com.rabbitmq.client.ConfirmCallback acks,
+                            com.rabbitmq.client.ConfirmCallback nacks) {
+            try {
+                return action.doInRabbit(this);
+            } finally {
+                unconfirmed.remove();
+            }
+        }
+
+        @Override
+        public void send(String exchange, String routingKey, Message message, CorrelationData correlationData) {
+            if (down) {
+                throw new AmqpConnectException(new ConnectException("broker is down"));
+            }
+            unconfirmed.get().add(new Delivery(exchange, routingKey, message));
+        }
+
+        @Override
+        public void waitForConfirmsOrDie(long timeout) {
+            if (down) {
+                throw new AmqpConnectException(new ConnectException("broker is down"));
+            }
+            delivered.addAll(unconfirmed.get());
+            unconfirmed.get().clear();
+        }
+    }
+
+    private static class Delivery {
+        private final String exchange;
+        private final String routingKey;
+        private final Message message;
+
+        private Delivery(String exchange, String routingKey, Message message) {
+            this.exchange = exchange;
+            this.routingKey = routingKey;
+            this.message = message;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.batton.memberservice.repository;
+
+import com.batton.memberservice.cache.MemberProfile;
+import com.batton.memberservice.domain.Member;
+import com.batton.memberservice.enums.Authority;
+import com.batton.memberservice.enums.Status;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import javax.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 유저 프로필 단건 조회 N회와 일괄 조회 1회(MemberService.getMembers 가 사용하는 쿼리)의 비용 비교 (./gradlew benchmark)
+ */
+@Tag("benchmark")
+@DataJpaTest
+public class MemberBatchLookupBenchmark {
+    private static final int SEED_SIZE = 1000;
+    private static final int ROUNDS = 20;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private EntityManager entityManager;
+    private final List<Long> memberIds = new ArrayList<>();
+
+    @BeforeEach
+    public void seed() {
+        for (int i = 0; i < SEED_SIZE; i++) {
+            Member member = Member.builder()
+                    .email("member" + i + "@email.com")
+                    .nickname("nika" + i)
+                    .password("password")
+                    .authority(Authority.ROLE_USER)
+                    .status(Status.ENABLED)
+                    .build();
+            memberIds.add(memberRepository.save(member).getId());
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {10, 100, 1000})
+    @DisplayName("유저 프로필 단건 조회 N회 vs 일괄 조회 1회")
+    public void benchmarkSingleVsBatch(int size) {
+        List<Long> targetIds = memberIds.subList(0, size);
+        long singleNanos = 0;
+        long batchNanos = 0;
+
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = System.nanoTime();
+            for (Long memberId : targetIds) {
+                memberRepository.findEnabledProfileById(memberId);
+            }
+            singleNanos += System.nanoTime() - start;
+            entityManager.clear();
+
+            start = System.nanoTime();
+            List<MemberProfile> profiles = memberRepository.findEnabledProfilesByIdIn(targetIds);
+            batchNanos += System.nanoTime() - start;
+            entityManager.clear();
+
+            assertEquals(size, profiles.size());
+        }
+        System.out.printf("ids=%d single=%.3fms batch=%.3fms%n",
+                size, singleNanos / (ROUNDS * 1_000_000.0), batchNanos / (ROUNDS * 1_000_000.0));
+    }
+}
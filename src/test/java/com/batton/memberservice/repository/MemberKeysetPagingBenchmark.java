@@ -0,0 +1,78 @@
+package com.batton.memberservice.repository;
+
+import com.batton.memberservice.dto.GetMemberListResDTO;
+import com.batton.memberservice.enums.Status;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import javax.persistence.EntityManager;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 100만 유저 keyset 페이지네이션 페이지별 지연 시간 측정 (./gradlew benchmark)
+ */
+@Tag("benchmark")
+@DataJpaTest
+public class MemberKeysetPagingBenchmark {
+    private static final int MEMBER_COUNT = 1_000_000;
+    private static final int PAGE_SIZE = 100;
+    private static final int SAMPLE_PAGES = 200;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeEach
+    public void seed() {
+        // 10명 중 1명은 비활성화 유저
+        entityManager.createNativeQuery("insert into member (email, email_key, nickname, password, authority, status, created_at, updated_at) " +
+                "select concat('member', x, '@email.com'), concat('member', x, '@email.com'), concat('nika', x), 'password', 'ROLE_USER', " +
+                "case when mod(x, 10) = 0 then 'DISABLED' else 'ENABLED' end, current_timestamp, current_timestamp " +
+                "from system_range(1, " + MEMBER_COUNT + ")").executeUpdate();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("100만 유저 전체 페이지 조회 시 마지막 페이지 지연 시간이 첫 페이지와 비슷")
+    public void benchmarkKeysetPaging() {
+        int pageCount = MEMBER_COUNT / 10 * 9 / PAGE_SIZE;
+        long[] latencies = new long[pageCount];
+        long afterId = 0;
+        int page = 0;
+        int total = 0;
+        List<GetMemberListResDTO> members;
+
+        do {
+            long startTime = System.nanoTime();
+            members = memberRepository.findPageAfter(afterId, Status.ENABLED, null, PageRequest.of(0, PAGE_SIZE));
+            if (page < pageCount) {
+                latencies[page] = System.nanoTime() - startTime;
+            }
+            if (!members.isEmpty()) {
+                afterId = members.get(members.size() - 1).getMemberId();
+                total += members.size();
+            }
+            page++;
+        } while (members.size() == PAGE_SIZE);
+
+        double first = median(Arrays.copyOfRange(latencies, 0, SAMPLE_PAGES));
+        double last = median(Arrays.copyOfRange(latencies, pageCount - SAMPLE_PAGES, pageCount));
+        System.out.printf("pages=%d first=%.3fms last=%.3fms%n", page, first, last);
+
+        assertEquals(MEMBER_COUNT / 10 * 9, total);
+        assertTrue(last < first * 3 + 1, "first=" + first + " last=" + last);
+    }
+
+    private static double median(long[] latencies) {
+        Arrays.sort(latencies);
+
+        return latencies[latencies.length / 2] / 1_000_000.0;
+    }
+}
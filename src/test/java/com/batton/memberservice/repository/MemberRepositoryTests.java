@@ -0,0 +1,173 @@
+package com.batton.memberservice.repository;
+
+import com.batton.memberservice.cache.MemberProfile;
+import com.batton.memberservice.domain.Member;
+import com.batton.memberservice.dto.GetMemberListResDTO;
+import com.batton.memberservice.enums.Authority;
+import com.batton.memberservice.enums.Status;
+import com.batton.memberservice.service.MemberEmailKeyBackfill;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import javax.persistence.EntityManager;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.batton.memberservice.repository.MemberRepositoryTests$SqlCapture")
+public class MemberRepositoryTests {
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private EntityManager entityManager;
+    private Member enabledMember;
+    private Member disabledMember;
+
+    @BeforeEach
+    public void setUp() {
+        enabledMember = memberRepository.save(Member.builder().email("test@email.com").nickname("nika")
+                .password("password").authority(Authority.ROLE_USER).profileImage("image").status(Status.ENABLED).build());
+        disabledMember = memberRepository.save(Member.builder().email("test2@email.com").nickname("nika2")
+                .password("password").authority(Authority.ROLE_USER).profileImage("image").status(Status.DISABLED).build());
+        entityManager.flush();
+        entityManager.clear();
+        SqlCapture.clear();
+    }
+
+    @Test
+    @DisplayName("유저 프로필 조회 시 비밀번호 컬럼 미조회 및 상태 필터링")
+    public void testFindEnabledProfileById() {
+        // when
+        Optional<MemberProfile> enabled = memberRepository.findEnabledProfileById(enabledMember.getId());
+        Optional<MemberProfile> disabled = memberRepository.findEnabledProfileById(disabledMember.getId());
+
+        // then
+        assertTrue(enabled.isPresent());
+        assertEquals(enabledMember.getNickname(), enabled.get().getNickname());
+        assertTrue(disabled.isEmpty());
+        assertPasswordNeverSelected();
+    }
+
+    @Test
+    @DisplayName("유저 프로필 일괄 조회 시 비밀번호 컬럼 미조회 및 상태 필터링")
+    public void testFindEnabledProfilesByIdIn() {
+        // when
+        List<MemberProfile> profiles = memberRepository.findEnabledProfilesByIdIn(
+                Arrays.asList(enabledMember.getId(), disabledMember.getId()));
+
+        // then
+        assertEquals(1, profiles.size());
+        assertEquals(enabledMember.getId(), profiles.get(0).getMemberId());
+        assertPasswordNeverSelected();
+    }
+
+    @Test
+    @DisplayName("대소문자가 다른 이메일도 같은 이메일 키로 조회")
+    public void testFindIdByEmailKey() {
+        // when
+        Optional<Long> memberId = memberRepository.findIdByEmailKey(Member.toEmailKey(" Test@Email.COM"));
+
+        // then
+        assertEquals(Optional.of(enabledMember.getId()), memberId);
+        assertTrue(memberRepository.existsByEmailKeyOrLegacyEmail(Member.toEmailKey("TEST2@email.com"), "TEST2@email.com"));
+        assertPasswordNeverSelected();
+    }
+
+    @Test
+    @DisplayName("email_key 마이그레이션 전 유저도 원본 이메일로 조회")
+    public void testFindLegacyMemberByEmail() {
+        // given
+        Member legacyMember = saveLegacyMember("Legacy@Email.com");
+
+        // when
+        Optional<Long> memberId = memberRepository.findIdByEmail("Legacy@Email.com");
+
+        // then
+        assertEquals(Optional.of(legacyMember.getId()), memberId);
+        assertTrue(memberRepository.existsByEmailKeyOrLegacyEmail(Member.toEmailKey("Legacy@Email.com"), "Legacy@Email.com"));
+    }
+
+    @Test
+    @DisplayName("email_key 마이그레이션 시 대소문자만 다른 이메일과 충돌하는 유저만 건너뜀")
+    public void testBackfillSkipsConflicts() {
+        // given
+        Member legacyMember = saveLegacyMember("Other@Email.com");
+        Member conflictMember = saveLegacyMember("TEST@email.com");
+
+        // when
+        new MemberEmailKeyBackfill(memberRepository).run(null);
+        entityManager.clear();
+
+        // then
+        assertEquals("other@email.com", memberRepository.findById(legacyMember.getId()).orElseThrow().getEmailKey());
+        assertNull(memberRepository.findById(conflictMember.getId()).orElseThrow().getEmailKey());
+        assertEquals(Optional.of(conflictMember.getId()), memberRepository.findLegacyIdByEmail("TEST@email.com"));
+        assertEquals(Optional.of(enabledMember.getId()), memberRepository.findIdByEmail("TEST@email.com"));
+    }
+
+    @Test
+    @DisplayName("keyset 페이지 조회 시 상태/권한 필터 적용 및 비밀번호 컬럼 미조회")
+    public void testFindPageAfter() {
+        // when
+        List<GetMemberListResDTO> all = memberRepository.findPageAfter(0L, null, null, PageRequest.of(0, 10));
+        List<GetMemberListResDTO> enabled = memberRepository.findPageAfter(0L, Status.ENABLED, Authority.ROLE_USER, PageRequest.of(0, 10));
+        List<GetMemberListResDTO> next = memberRepository.findPageAfter(enabledMember.getId(), null, null, PageRequest.of(0, 10));
+        List<GetMemberListResDTO> admins = memberRepository.findPageAfter(0L, null, Authority.ROLE_ADMIN, PageRequest.of(0, 10));
+
+        // then
+        assertEquals(2, all.size());
+        assertEquals(1, enabled.size());
+        assertEquals(enabledMember.getId(), enabled.get(0).getMemberId());
+        assertEquals(disabledMember.getId(), next.get(0).getMemberId());
+        assertTrue(admins.isEmpty());
+        assertPasswordNeverSelected();
+    }
+
+    /**
+     * email_key 컬럼 도입 전에 가입한 유저 저장
+     */
+    private Member saveLegacyMember(String email) {
+        Member member = memberRepository.save(Member.builder().email("legacy-" + email).nickname("legacy")
+                .password("password").authority(Authority.ROLE_USER).status(Status.ENABLED).build());
+        entityManager.flush();
+        entityManager.createNativeQuery("update member set email = :email, email_key = null where member_id = :memberId")
+                .setParameter("email", email)
+                .setParameter("memberId", member.getId())
+                .executeUpdate();
+        entityManager.clear();
+
+        return member;
+    }
+
+    private void assertPasswordNeverSelected() {
+        assertFalse(SqlCapture.statements.isEmpty());
+        SqlCapture.statements.forEach(sql -> assertFalse(sql.toLowerCase().contains("password"), sql));
+    }
+
+    /**
+     * Hibernate 가 실행하는 SQL 을 기록
+     */
+    public static class SqlCapture implements StatementInspector {
+        private static final long serialVersionUID = 1L;
+        private static final List<String> statements = new CopyOnWriteArrayList<>();
+
+        static void clear() {
+            statements.clear();
+        }
+
+        @Override
+        public String inspect(String sql) {
+            statements.add(sql);
+
+            return sql;
+        }
+    }
+}
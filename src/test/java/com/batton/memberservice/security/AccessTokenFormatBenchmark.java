@@ -0,0 +1,87 @@
+package com.batton.memberservice.security;
+
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 기존 형식과 압축 형식 액세스 토큰의 평균 크기, 파싱 시간 비교 (./gradlew benchmark)
+ */
+@Tag("benchmark")
+public class AccessTokenFormatBenchmark {
+    private static final int TOKEN_COUNT = 10_000;
+    private static final int ROUNDS = 5;
+    private static final String SECRET = Base64.getEncoder().encodeToString(Keys.secretKeyFor(SignatureAlgorithm.HS512).getEncoded());
+
+    @Test
+    @DisplayName("압축 형식 토큰이 더 작고 파싱이 느려지지 않음")
+    public void benchmarkFormats() {
+        String[] legacyTokens = issue(false);
+        String[] compactTokens = issue(true);
+        TokenProvider tokenProvider = new TokenProvider(new SigningKeyRing(environment(true)));
+
+        double legacySize = averageLength(legacyTokens);
+        double compactSize = averageLength(compactTokens);
+        double legacyParse = parseNanos(tokenProvider, legacyTokens);
+        double compactParse = parseNanos(tokenProvider, compactTokens);
+        System.out.printf("legacy: %.1f bytes %.0fns/parse, compact: %.1f bytes %.0fns/parse%n",
+                legacySize, legacyParse, compactSize, compactParse);
+
+        assertTrue(compactSize < legacySize * 0.8, "legacy=" + legacySize + " compact=" + compactSize);
+        assertTrue(compactParse < legacyParse * 1.2, "legacy=" + legacyParse + " compact=" + compactParse);
+    }
+
+    private static String[] issue(boolean compact) {
+        TokenProvider tokenProvider = new TokenProvider(new SigningKeyRing(environment(compact)));
+        Random random = new Random(42);
+        List<String> userRoles = Arrays.asList("ROLE_USER");
+        List<String> adminRoles = Arrays.asList("ROLE_USER", "ROLE_ADMIN");
+        String[] tokens = new String[TOKEN_COUNT];
+
+        for (int i = 0; i < TOKEN_COUNT; i++) {
+            String memberId = String.valueOf(1 + random.nextInt(1_000_000));
+            tokens[i] = tokenProvider.createAccessToken(memberId, "/auth/login", random.nextInt(100) == 0 ? adminRoles : userRoles).getToken();
+        }
+
+        return tokens;
+    }
+
+    private static double averageLength(String[] tokens) {
+        return Arrays.stream(tokens).mapToInt(String::length).average().orElse(0);
+    }
+
+    private static double parseNanos(TokenProvider tokenProvider, String[] tokens) {
+        long elapsed = 0;
+
+        // 첫 라운드는 워밍업
+        for (int round = 0; round <= ROUNDS; round++) {
+            long startTime = System.nanoTime();
+
+            for (String token : tokens) {
+                assertNotNull(tokenProvider.parse(token).get().getMemberId());
+            }
+            if (round > 0) {
+                elapsed += System.nanoTime() - startTime;
+            }
+        }
+
+        return (double) elapsed / ROUNDS / tokens.length;
+    }
+
+    private static MockEnvironment environment(boolean compact) {
+        return new MockEnvironment()
+                .withProperty("token.access-expiration-time", "600000")
+                .withProperty("token.refresh-expiration-time", "6000000")
+                .withProperty("token.secret", SECRET)
+                .withProperty("token.compact-access-token", String.valueOf(compact));
+    }
+}
@@ -0,0 +1,81 @@
+package com.batton.memberservice.security;
+
+import com.batton.memberservice.security.service.RefreshTokenService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.mockito.Mockito.*;
+
+/**
+ * 로그인 한 번당 할당 바이트 측정 (./gradlew benchmark)
+ * JVM 버전, 옵션에 따라 값이 달라지므로 일반 테스트에서 제외
+ */
+@Tag("benchmark")
+public class AuthenticationFilterBenchmark {
+    // 현재 약 115KiB (JWT 서명 포함), 요청마다 ObjectMapper 를 새로 만들면 이 값을 크게 넘음
+    private static final long MAX_BYTES_PER_LOGIN = 160 * 1024;
+    private static final int WARMUP_COUNT = 2_000;
+    private static final int LOGIN_COUNT = 1_000;
+    private static final byte[] CREDENTIAL = "{\"email\":\"member@email.com\",\"password\":\"password\"}".getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    @DisplayName("로그인 한 번당 할당 바이트가 기준 이하")
+    public void benchmarkAllocationPerLogin() throws Exception {
+        com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threadMXBean.isThreadAllocatedMemorySupported() && threadMXBean.isThreadAllocatedMemoryEnabled());
+        long threadId = Thread.currentThread().getId();
+        AuthenticationFilter authenticationFilter = authenticationFilter(Jackson2ObjectMapperBuilder.json().build());
+
+        for (int i = 0; i < WARMUP_COUNT; i++) {
+            login(authenticationFilter);
+        }
+        long startBytes = threadMXBean.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < LOGIN_COUNT; i++) {
+            login(authenticationFilter);
+        }
+        long bytesPerLogin = (threadMXBean.getThreadAllocatedBytes(threadId) - startBytes) / LOGIN_COUNT;
+        System.out.printf("logins=%d allocated=%dB/login%n", LOGIN_COUNT, bytesPerLogin);
+
+        assertTrue(bytesPerLogin < MAX_BYTES_PER_LOGIN, "bytesPerLogin=" + bytesPerLogin);
+    }
+
+    private static AuthenticationFilter authenticationFilter(ObjectMapper objectMapper) {
+        TokenProvider tokenProvider = new TokenProvider(new SigningKeyRing(new MockEnvironment()
+                .withProperty("token.access-expiration-time", "60000")
+                .withProperty("token.refresh-expiration-time", "600000")
+                .withProperty("token.secret", Base64.getEncoder().encodeToString(Keys.secretKeyFor(SignatureAlgorithm.HS512).getEncoded()))));
+        Authentication authenticated = new UsernamePasswordAuthenticationToken(
+                new User("1", "", Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER"))), null,
+                Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER")));
+
+        return new AuthenticationFilter(authentication -> authenticated, tokenProvider,
+                mock(RefreshTokenService.class, withSettings().stubOnly()), mock(LoginThrottle.class, withSettings().stubOnly()), objectMapper);
+    }
+
+    private static void login(AuthenticationFilter authenticationFilter) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/auth/login");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        request.setContent(CREDENTIAL);
+
+        Authentication authentication = authenticationFilter.attemptAuthentication(request, response);
+        authenticationFilter.successfulAuthentication(request, response, null, authentication);
+    }
+}
@@ -0,0 +1,95 @@
+package com.batton.memberservice.security;
+
+import com.batton.memberservice.security.service.RefreshTokenService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.apache.catalina.filters.RemoteIpFilter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class AuthenticationFilterTests {
+    private static final byte[] CREDENTIAL = "{\"email\":\"member@email.com\",\"password\":\"password\"}".getBytes(StandardCharsets.UTF_8);
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final TokenProvider tokenProvider = new TokenProvider(new SigningKeyRing(new MockEnvironment()
+            .withProperty("token.access-expiration-time", "60000")
+            .withProperty("token.refresh-expiration-time", "600000")
+            .withProperty("token.secret", Base64.getEncoder().encodeToString(Keys.secretKeyFor(SignatureAlgorithm.HS512).getEncoded()))));
+    private final Authentication authenticated = new UsernamePasswordAuthenticationToken(
+            new User("1", "", Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER"))), null,
+            Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER")));
+    private final AuthenticationManager authenticationManager = authentication -> authenticated;
+    private final AuthenticationFilter authenticationFilter = new AuthenticationFilter(authenticationManager, tokenProvider,
+            mock(RefreshTokenService.class, withSettings().stubOnly()), mock(LoginThrottle.class, withSettings().stubOnly()), objectMapper);
+
+    @Test
+    @DisplayName("로그인 응답에 새 토큰과 epoch millis 만료 시각을 출력")
+    public void testLoginResponse() throws Exception {
+        // given
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        login(response);
+
+        // then
+        JsonNode body = objectMapper.readTree(response.getContentAsByteArray());
+        JsonNode result = body.get("result");
+        ParsedToken accessToken = tokenProvider.parse(result.get("accessToken").asText()).orElseThrow();
+        assertTrue(body.get("isSuccess").asBoolean());
+        assertEquals("1", accessToken.getMemberId());
+        assertTrue(result.get("accessTokenExpiredDate").isNumber());
+        // JWT exp 는 초 단위
+        assertEquals(accessToken.getExpiration().getTime() / 1000, result.get("accessTokenExpiredDate").asLong() / 1000);
+        assertTrue(tokenProvider.parse(result.get("refreshToken").asText()).isPresent());
+        assertEquals(StandardCharsets.UTF_8.name(), response.getCharacterEncoding());
+    }
+
+    @Test
+    @DisplayName("게이트웨이를 거친 요청은 X-Forwarded-For 의 클라이언트 IP 로 시도 횟수 제한")
+    public void testThrottleByForwardedClientIp() throws Exception {
+        // given (server.forward-headers-strategy=native 와 같은 기본 설정의 RemoteIp 처리)
+        LoginThrottle loginThrottle = mock(LoginThrottle.class);
+        AuthenticationFilter throttledFilter = new AuthenticationFilter(authenticationManager, tokenProvider,
+                mock(RefreshTokenService.class), loginThrottle, objectMapper);
+        RemoteIpFilter remoteIpFilter = new RemoteIpFilter();
+
+        // when
+        for (String forwardedFor : new String[]{"198.51.100.7", "203.0.113.9, 198.51.100.7, 10.0.16.20"}) {
+            MockHttpServletRequest request = new MockHttpServletRequest("POST", "/auth/login");
+            request.setRemoteAddr("10.0.16.10");
+            request.addHeader("X-Forwarded-For", forwardedFor);
+            request.setContent(CREDENTIAL);
+            remoteIpFilter.doFilter(request, new MockHttpServletResponse(), (forwardedRequest, response) ->
+                    throttledFilter.attemptAuthentication((HttpServletRequest) forwardedRequest, (HttpServletResponse) response));
+        }
+
+        // then (클라이언트가 붙인 앞쪽 값은 무시하고 게이트웨이 바로 앞의 IP 사용)
+        verify(loginThrottle, times(2)).acquire("member@email.com", "198.51.100.7");
+    }
+
+    private void login(MockHttpServletResponse response) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/auth/login");
+        request.setContent(CREDENTIAL);
+
+        Authentication authentication = authenticationFilter.attemptAuthentication(request, response);
+        authenticationFilter.successfulAuthentication(request, response, null, authentication);
+    }
+}
@@ -0,0 +1,86 @@
+package com.batton.memberservice.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BoundedPasswordEncoderTests {
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("전용 풀에서 해시 후 검증하고 해시 시간 기록")
+    public void testEncodeAndMatches() {
+        // given
+        BoundedPasswordEncoder passwordEncoder = new BoundedPasswordEncoder(4, 2, 8, meterRegistry);
+
+        // when
+        String encoded = passwordEncoder.encode("password1!");
+
+        // then
+        assertTrue(passwordEncoder.matches("password1!", encoded));
+        assertFalse(passwordEncoder.matches("password2!", encoded));
+        assertEquals(1, meterRegistry.get("auth.password.hash").tag("operation", "encode").timer().count());
+        assertEquals(2, meterRegistry.get("auth.password.hash").tag("operation", "matches").timer().count());
+        passwordEncoder.destroy();
+    }
+
+    @Test
+    @DisplayName("풀과 대기열이 가득 차면 바로 거절")
+    public void testRejectWhenSaturated() throws Exception {
+        // given
+        BoundedPasswordEncoder passwordEncoder = new BoundedPasswordEncoder(12, 1, 1, meterRegistry);
+        ExecutorService requests = Executors.newFixedThreadPool(16);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger rejected = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < 16; i++) {
+            futures.add(requests.submit(() -> {
+                start.await();
+                try {
+                    passwordEncoder.encode("password1!");
+                } catch (PasswordHashingRejectedException e) {
+                    rejected.incrementAndGet();
+                }
+
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+
+        // then
+        assertTrue(rejected.get() > 0);
+        assertEquals(rejected.get(), meterRegistry.get("auth.password.rejected").counter().count());
+        requests.shutdown();
+        passwordEncoder.destroy();
+    }
+
+    @Test
+    @DisplayName("저장된 해시의 cost 가 설정보다 낮으면 재해시 대상")
+    public void testUpgradeEncoding() {
+        // given
+        BoundedPasswordEncoder passwordEncoder = new BoundedPasswordEncoder(6, 1, 8, meterRegistry);
+        String weakHash = new BCryptPasswordEncoder(4).encode("password1!");
+
+        // when, then
+        assertTrue(passwordEncoder.upgradeEncoding(weakHash));
+        assertFalse(passwordEncoder.upgradeEncoding(passwordEncoder.encode("password1!")));
+        assertTrue(passwordEncoder.matches("password1!", weakHash));
+        passwordEncoder.destroy();
+    }
+}
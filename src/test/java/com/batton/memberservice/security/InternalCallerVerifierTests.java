@@ -0,0 +1,26 @@
+package com.batton.memberservice.security;
+
+import com.batton.memberservice.common.BaseException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static com.batton.memberservice.common.BaseResponseStatus.INVALID_INTERNAL_CALLER;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class InternalCallerVerifierTests {
+    private final InternalCallerVerifier internalCallerVerifier = new InternalCallerVerifier("internal-secret");
+
+    @Test
+    @DisplayName("공유 비밀 값이 없거나 다르면 내부 호출자가 아닌 것으로 거절")
+    public void testCheck() {
+        // given
+        InternalCallerVerifier unconfigured = new InternalCallerVerifier("");
+
+        // when, then
+        assertDoesNotThrow(() -> internalCallerVerifier.check("internal-secret"));
+        assertThrows(BaseException.class, () -> internalCallerVerifier.check(null));
+        assertEquals(INVALID_INTERNAL_CALLER,
+                assertThrows(BaseException.class, () -> internalCallerVerifier.check("internal-secret2")).getStatus());
+        assertThrows(BaseException.class, () -> unconfigured.check(""));
+    }
+}
@@ -0,0 +1,65 @@
+package com.batton.memberservice.security;
+
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import java.security.Key;
+import java.security.KeyPair;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 알고리즘별 토큰 서명/검증 비용 측정 (./gradlew benchmark)
+ */
+@Tag("benchmark")
+public class JwtAlgorithmBenchmark {
+    private static final int WARMUP = 5_000;
+    private static final int ROUNDS = 20_000;
+
+    @Test
+    @DisplayName("HS512 / ES256 / RS256 서명, 검증 비용 비교")
+    public void benchmarkSignAndVerify() throws Exception {
+        Key hmacKey = Keys.secretKeyFor(SignatureAlgorithm.HS512);
+        KeyPair ecKeyPair = JwtKeyStore.generateKeyPair();
+        KeyPair rsaKeyPair = Keys.keyPairFor(SignatureAlgorithm.RS256);
+
+        measure(SignatureAlgorithm.HS512, hmacKey, hmacKey);
+        measure(SignatureAlgorithm.ES256, ecKeyPair.getPrivate(), ecKeyPair.getPublic());
+        measure(SignatureAlgorithm.RS256, rsaKeyPair.getPrivate(), rsaKeyPair.getPublic());
+    }
+
+    private static void measure(SignatureAlgorithm algorithm, Key signingKey, Key verificationKey) {
+        JwtParser jwtParser = Jwts.parserBuilder().setSigningKey(verificationKey).build();
+        String token = sign(algorithm, signingKey);
+
+        for (int i = 0; i < WARMUP; i++) {
+            jwtParser.parseClaimsJws(sign(algorithm, signingKey));
+        }
+        long startTime = System.nanoTime();
+        for (int i = 0; i < ROUNDS; i++) {
+            token = sign(algorithm, signingKey);
+        }
+        double signMicros = (System.nanoTime() - startTime) / (ROUNDS * 1_000.0);
+
+        startTime = System.nanoTime();
+        for (int i = 0; i < ROUNDS; i++) {
+            assertEquals("1", jwtParser.parseClaimsJws(token).getBody().getSubject());
+        }
+        double verifyMicros = (System.nanoTime() - startTime) / (ROUNDS * 1_000.0);
+
+        System.out.printf("%s: sign=%.1fus verify=%.1fus size=%dB%n", algorithm, signMicros, verifyMicros, token.length());
+    }
+
+    private static String sign(SignatureAlgorithm algorithm, Key signingKey) {
+        return Jwts.builder()
+                .setSubject("1")
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(signingKey, algorithm)
+                .compact();
+    }
+}
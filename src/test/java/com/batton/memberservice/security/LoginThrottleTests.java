@@ -0,0 +1,77 @@
+package com.batton.memberservice.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+public class LoginThrottleTests {
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+    private final LoginThrottle loginThrottle = new LoginThrottle(redisTemplate, meterRegistry, 3, 1, 100, 60, 1000);
+
+    @Test
+    @DisplayName("Redis 버킷이 거절하면 차단 시간 동안 Redis 를 다시 호출하지 않음")
+    public void testBackoffSkipsRedis() {
+        // given
+        when(redisTemplate.execute(anyListScript(), anyList(), any()))
+                .thenReturn(Arrays.<Object>asList(0L, 30_000L, 0L));
+
+        // when
+        LoginThrottledException first = assertThrows(LoginThrottledException.class,
+                () -> loginThrottle.acquire("Member@Email.com", "10.0.0.1"));
+        assertThrows(LoginThrottledException.class, () -> loginThrottle.acquire("member@email.com ", "10.0.0.2"));
+
+        // then
+        assertEquals(30_000L, first.getRetryAfterMillis());
+        verify(redisTemplate, times(1)).execute(anyListScript(), anyList(), any());
+        assertEquals(1.0, meterRegistry.get("auth.login.throttle").tag("result", "backoff").counter().count());
+    }
+
+    @Test
+    @DisplayName("Redis 버킷이 허용하면 통과")
+    public void testAllowedByRedis() {
+        // given
+        when(redisTemplate.execute(anyListScript(), anyList(), any()))
+                .thenReturn(Arrays.<Object>asList(1L, 0L, 0L));
+
+        // when
+        for (int i = 0; i < 5; i++) {
+            loginThrottle.acquire("member@email.com", "10.0.0.1");
+        }
+
+        // then
+        assertEquals(5.0, meterRegistry.get("auth.login.throttle").tag("result", "allowed").counter().count());
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시 로컬 버킷으로 이메일별 시도 횟수 제한")
+    public void testLocalFallback() {
+        // given
+        when(redisTemplate.execute(anyListScript(), anyList(), any()))
+                .thenThrow(new RedisConnectionFailureException("connection refused"));
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            loginThrottle.acquire("member@email.com", "10.0.0.1");
+        }
+
+        // then
+        assertThrows(LoginThrottledException.class, () -> loginThrottle.acquire("member@email.com", "10.0.0.1"));
+        loginThrottle.acquire("other@email.com", "10.0.0.1");
+        // 장애 직후에는 Redis 를 매번 호출하지 않음
+        verify(redisTemplate, times(1)).execute(anyListScript(), anyList(), any());
+    }
+
+    private static RedisScript<List<Object>> anyListScript() {
+        return any();
+    }
+}
@@ -0,0 +1,161 @@
+package com.batton.memberservice.security;
+
+import com.batton.memberservice.cache.MemberProfileCache;
+import com.batton.memberservice.domain.Member;
+import com.batton.memberservice.enums.Authority;
+import com.batton.memberservice.enums.Status;
+import com.batton.memberservice.repository.MemberRepository;
+import com.batton.memberservice.security.service.RefreshTokenService;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.mock.env.MockEnvironment;
+import redis.embedded.RedisServer;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 실제 Redis(embedded-redis)에서 Lua 스크립트 동작 확인
+ */
+public class RefreshTokenStoreRedisTests {
+    private static final long GRACE_MILLIS = 300;
+    private static final long MEMBER_TTL_MILLIS = 60_000;
+    private static RedisServer redisServer;
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+    private final SigningKeyRing signingKeyRing = new SigningKeyRing(new MockEnvironment()
+            .withProperty("token.access-expiration-time", "60000")
+            .withProperty("token.refresh-expiration-time", "600000")
+            .withProperty("token.secret", Base64.getEncoder().encodeToString(new byte[64])));
+    private final RefreshTokenStore refreshTokenStore = new RefreshTokenStore(redisTemplate, signingKeyRing, GRACE_MILLIS, MEMBER_TTL_MILLIS);
+
+    @BeforeAll
+    public static void startRedis() throws IOException {
+        int port;
+        try (ServerSocket serverSocket = new ServerSocket(0)) {
+            port = serverSocket.getLocalPort();
+        }
+        redisServer = new RedisServer(port);
+        redisServer.start();
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    public static void stopRedis() throws IOException {
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    public void setUp() {
+        redisTemplate.execute(connection -> {
+            connection.flushAll();
+
+            return null;
+        }, true);
+    }
+
+    @Test
+    @DisplayName("교체 직후 같은 토큰으로 다시 요청하면 유예 시간 안에서는 새 토큰을 하나 더 발급")
+    public void testReuseWithinGrace() {
+        // given
+        refreshTokenStore.issue(1L, "old", Collections.singletonList("ROLE_USER"), Status.ENABLED);
+        refreshTokenStore.rotate(1L, "old", "first");
+
+        // when (다른 탭의 동시 요청)
+        RefreshTokenStore.Rotation second = refreshTokenStore.rotate(1L, "old", "second");
+
+        // then
+        assertEquals(RefreshTokenStore.RotationResult.ROTATED, second.getResult());
+        assertEquals(Collections.singletonList("ROLE_USER"), second.getRoles());
+        assertEquals(2, refreshTokenStore.countActive(1L));
+        assertEquals(RefreshTokenStore.RotationResult.ROTATED, refreshTokenStore.rotate(1L, "first", "third").getResult());
+        assertEquals(RefreshTokenStore.RotationResult.ROTATED, refreshTokenStore.rotate(1L, "second", "fourth").getResult());
+    }
+
+    @Test
+    @DisplayName("유예 시간이 지난 뒤 교체된 토큰이 다시 사용되면 유저의 토큰 전체 폐기")
+    public void testReuseAfterGrace() throws InterruptedException {
+        // given
+        refreshTokenStore.issue(1L, "old", Collections.singletonList("ROLE_USER"), Status.ENABLED);
+        refreshTokenStore.issue(1L, "other-device", Collections.singletonList("ROLE_USER"), Status.ENABLED);
+        refreshTokenStore.rotate(1L, "old", "new");
+        Thread.sleep(GRACE_MILLIS + 100);
+
+        // when
+        RefreshTokenStore.Rotation reused = refreshTokenStore.rotate(1L, "old", "attacker");
+
+        // then
+        assertEquals(RefreshTokenStore.RotationResult.REUSED, reused.getResult());
+        assertEquals(RefreshTokenStore.RotationResult.NOT_FOUND, refreshTokenStore.rotate(1L, "new", "next").getResult());
+        assertEquals(RefreshTokenStore.RotationResult.NOT_FOUND, refreshTokenStore.rotate(1L, "other-device", "next").getResult());
+        assertEquals(0, refreshTokenStore.countActive(1L));
+    }
+
+    @Test
+    @DisplayName("다른 유저의 토큰 아이디로는 교체되지 않음")
+    public void testRotateOtherMembersToken() {
+        // given
+        refreshTokenStore.issue(1L, "old", Collections.singletonList("ROLE_USER"), Status.ENABLED);
+
+        // when, then
+        assertEquals(RefreshTokenStore.RotationResult.NOT_FOUND, refreshTokenStore.rotate(2L, "old", "new").getResult());
+        assertEquals(RefreshTokenStore.RotationResult.ROTATED, refreshTokenStore.rotate(1L, "old", "new").getResult());
+    }
+
+    @Test
+    @DisplayName("재발급용 권한/상태 TTL 은 토큰 교체 시 연장되지 않음")
+    public void testMemberTtlNotExtended() {
+        // given
+        refreshTokenStore.issue(1L, "old", Collections.singletonList("ROLE_USER"), Status.ENABLED);
+        redisTemplate.expire("refresh:{1}:member", Duration.ofSeconds(10));
+
+        // when
+        refreshTokenStore.rotate(1L, "old", "new");
+
+        // then
+        Long memberTtl = redisTemplate.getExpire("refresh:{1}:member");
+        assertNotNull(memberTtl);
+        assertTrue(memberTtl > 0 && memberTtl <= 10, "ttl=" + memberTtl);
+    }
+
+    @Test
+    @DisplayName("유저 변경 메시지를 받으면 다음 재발급 토큰에 바뀐 권한 반영")
+    public void testRoleChangeAppliedOnNextRefresh() {
+        // given
+        TokenProvider tokenProvider = new TokenProvider(signingKeyRing);
+        MemberRepository memberRepository = mock(MemberRepository.class);
+        RefreshTokenService refreshTokenService = new RefreshTokenService(tokenProvider, memberRepository, refreshTokenStore,
+                mock(TokenDenylist.class));
+        IssuedToken refreshToken = tokenProvider.createRefreshToken();
+        String accessToken = tokenProvider.createAccessToken("1", "/auth/login", Collections.singletonList("ROLE_USER")).getToken();
+        refreshTokenStore.issue(1L, refreshToken.getTokenId(), Collections.singletonList("ROLE_USER"), Status.ENABLED);
+        when(memberRepository.findById(1L)).thenReturn(Optional.of(Member.builder().id(1L).email("test@email.com")
+                .authority(Authority.ROLE_ADMIN).status(Status.ENABLED).build()));
+
+        // when (관리자 권한 부여 후 유저 변경 메시지 발행)
+        refreshTokenStore.onMessage(new DefaultMessage(MemberProfileCache.INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                "1".getBytes(StandardCharsets.UTF_8)), null);
+        TokenDTO.TokenData tokenData = refreshTokenService.refreshToken(accessToken, refreshToken.getToken());
+
+        // then
+        assertEquals(Collections.singletonList("ROLE_ADMIN"), tokenProvider.parse(tokenData.getAccessToken()).get().getRoles());
+        verify(memberRepository, times(1)).findById(1L);
+    }
+}
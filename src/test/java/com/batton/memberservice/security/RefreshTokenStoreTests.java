@@ -0,0 +1,81 @@
+package com.batton.memberservice.security;
+
+import com.batton.memberservice.enums.Status;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.mock.env.MockEnvironment;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+public class RefreshTokenStoreTests {
+    private final StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+    private final RefreshTokenStore refreshTokenStore = new RefreshTokenStore(redisTemplate, new SigningKeyRing(new MockEnvironment()
+            .withProperty("token.access-expiration-time", "60000")
+            .withProperty("token.refresh-expiration-time", "1209600000")
+            .withProperty("token.secret", Base64.getEncoder().encodeToString(new byte[64]))), 5_000, 300_000);
+
+    @Test
+    @DisplayName("교체 결과를 스크립트 반환값으로 구분")
+    public void testRotationResult() {
+        // given
+        when(redisTemplate.execute(anyListScript(), anyList(), any()))
+                .thenReturn(Arrays.asList(1L, "ROLE_USER", "ENABLED"))
+                .thenReturn(Collections.singletonList(0L))
+                .thenReturn(Collections.singletonList(-1L));
+
+        // when, then
+        assertEquals(RefreshTokenStore.RotationResult.ROTATED, refreshTokenStore.rotate(1L, "old", "new").getResult());
+        assertEquals(RefreshTokenStore.RotationResult.NOT_FOUND, refreshTokenStore.rotate(1L, "old", "new").getResult());
+        assertEquals(RefreshTokenStore.RotationResult.REUSED, refreshTokenStore.rotate(1L, "old", "new").getResult());
+    }
+
+    @Test
+    @DisplayName("교체 성공 시 저장된 권한/상태를 함께 반환하고 없으면 상태는 null")
+    public void testRotationMember() {
+        // given
+        when(redisTemplate.execute(anyListScript(), anyList(), any()))
+                .thenReturn(Arrays.asList(1L, "ROLE_USER,ROLE_ADMIN", "DISABLED"))
+                .thenReturn(Arrays.asList(1L, "", ""));
+
+        // when
+        RefreshTokenStore.Rotation cached = refreshTokenStore.rotate(1L, "old", "new");
+        RefreshTokenStore.Rotation notCached = refreshTokenStore.rotate(1L, "old", "new");
+
+        // then
+        assertEquals(Arrays.asList("ROLE_USER", "ROLE_ADMIN"), cached.getRoles());
+        assertEquals(Status.DISABLED, cached.getStatus());
+        assertTrue(notCached.getRoles().isEmpty());
+        assertNull(notCached.getStatus());
+    }
+
+    @Test
+    @DisplayName("한 유저의 키는 모두 같은 해시 태그를 사용하고 TTL 은 설정값을 따름")
+    @SuppressWarnings("unchecked")
+    public void testKeysAndTtl() {
+        // given
+        ArgumentCaptor<List<String>> keys = ArgumentCaptor.forClass(List.class);
+        ArgumentCaptor<Object> args = ArgumentCaptor.forClass(Object.class);
+
+        // when
+        refreshTokenStore.rotate(7L, "old", "new");
+
+        // then
+        verify(redisTemplate).execute(anyListScript(), keys.capture(), args.capture());
+        assertEquals(6, keys.getValue().size());
+        assertTrue(keys.getValue().stream().allMatch(key -> key.startsWith("refresh:{7}:")));
+        assertEquals(Arrays.asList("7", "old", "new", "1209600000", "5000"), args.getAllValues());
+    }
+
+    private static RedisScript<List<Object>> anyListScript() {
+        return any();
+    }
+}
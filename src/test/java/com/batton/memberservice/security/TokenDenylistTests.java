@@ -0,0 +1,71 @@
+package com.batton.memberservice.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+public class TokenDenylistTests {
+    private final StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+    private final TokenDenylist tokenDenylist = new TokenDenylist(redisTemplate, new SimpleMeterRegistry(), 1000);
+
+    @Test
+    @DisplayName("시작 시 Redis 에서 만료되지 않은 jti 를 읽어옴")
+    @SuppressWarnings("unchecked")
+    public void testLoadOnStartup() {
+        // given
+        ZSetOperations<String, String> zSetOperations = mock(ZSetOperations.class);
+        Set<ZSetOperations.TypedTuple<String>> entries = new LinkedHashSet<>();
+        entries.add(new DefaultTypedTuple<>("revoked-jti", (double) (System.currentTimeMillis() + 60_000)));
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        when(zSetOperations.rangeByScoreWithScores(anyString(), anyDouble(), anyDouble())).thenReturn(entries);
+
+        // when
+        tokenDenylist.afterSingletonsInstantiated();
+
+        // then
+        assertTrue(tokenDenylist.isRevoked("revoked-jti"));
+        assertFalse(tokenDenylist.isRevoked("other-jti"));
+        assertFalse(tokenDenylist.isRevoked(null));
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스의 폐기 전파를 받으면 메모리에서 바로 거절")
+    public void testRevokeFromMessage() {
+        // given
+        long expiresAt = System.currentTimeMillis() + 60_000;
+        byte[] body = ("remote-jti " + expiresAt).getBytes(StandardCharsets.UTF_8);
+
+        // when
+        tokenDenylist.onMessage(new DefaultMessage(TokenDenylist.CHANNEL.getBytes(StandardCharsets.UTF_8), body), null);
+
+        // then
+        assertTrue(tokenDenylist.isRevoked("remote-jti"));
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @Test
+    @DisplayName("만료 시각이 지난 jti 는 폐기 목록에서 제외")
+    public void testExpiredEntry() {
+        // given
+        long expiresAt = System.currentTimeMillis() - 1;
+
+        // when
+        tokenDenylist.onMessage(new DefaultMessage(new byte[0], ("old-jti " + expiresAt).getBytes(StandardCharsets.UTF_8)), null);
+        tokenDenylist.revoke("expired-jti", expiresAt);
+
+        // then
+        assertFalse(tokenDenylist.isRevoked("old-jti"));
+        assertFalse(tokenDenylist.isRevoked("expired-jti"));
+    }
+}
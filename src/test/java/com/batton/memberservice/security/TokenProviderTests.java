@@ -0,0 +1,265 @@
+package com.batton.memberservice.security;
+
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.context.environment.EnvironmentChangeEvent;
+import org.springframework.mock.env.MockEnvironment;
+import java.security.KeyPair;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TokenProviderTests {
+    private static final String SECRET = newSecret();
+    private final TokenProvider tokenProvider = new TokenProvider(new SigningKeyRing(environment(60_000, SECRET)));
+
+    @Test
+    @DisplayName("액세스 토큰 발급 시 만료 시각을 함께 반환하고 한 번의 파싱으로 모든 클레임 조회")
+    public void testCreateAndParseAccessToken() {
+        // given
+        IssuedToken issuedToken = tokenProvider.createAccessToken("1", "/auth/login", Arrays.asList("ROLE_USER"));
+
+        // when
+        Optional<ParsedToken> parsedToken = tokenProvider.parse(issuedToken.getToken());
+
+        // then
+        assertTrue(parsedToken.isPresent());
+        assertEquals("1", parsedToken.get().getMemberId());
+        assertEquals(Arrays.asList("ROLE_USER"), parsedToken.get().getRoles());
+        assertEquals(issuedToken.getExpiration().getTime() / 1000, parsedToken.get().getExpiration().getTime() / 1000);
+        assertEquals(issuedToken.getTokenId(), parsedToken.get().getTokenId());
+    }
+
+    @Test
+    @DisplayName("리프레시 토큰 발급 시 아이디를 함께 반환")
+    public void testCreateRefreshToken() {
+        // given
+        IssuedToken issuedToken = tokenProvider.createRefreshToken();
+
+        // when
+        ParsedToken parsedToken = tokenProvider.parse(issuedToken.getToken()).get();
+
+        // then
+        assertNotNull(issuedToken.getTokenId());
+        assertEquals(issuedToken.getTokenId(), parsedToken.getRefreshTokenId());
+    }
+
+    @Test
+    @DisplayName("만료된 토큰은 parse 실패, parseAllowingExpired 는 클레임 반환")
+    public void testExpiredToken() {
+        // given
+        TokenProvider expiredTokenProvider = new TokenProvider(new SigningKeyRing(environment(-1_000, SECRET)));
+        String token = expiredTokenProvider.createKakaoAccessToken("1").getToken();
+
+        // when, then
+        assertTrue(tokenProvider.parse(token).isEmpty());
+        assertTrue(tokenProvider.parseAllowingExpired(token).get().isExpired());
+        assertEquals("1", tokenProvider.parseAllowingExpired(token).get().getMemberId());
+    }
+
+    @Test
+    @DisplayName("다른 키로 서명된 토큰 검증 실패")
+    public void testInvalidSignature() {
+        // given
+        String token = new TokenProvider(new SigningKeyRing(environment(60_000, newSecret()))).createKakaoAccessToken("1").getToken();
+
+        // when, then
+        assertFalse(tokenProvider.validateToken(token));
+        assertTrue(tokenProvider.parseAllowingExpired(token).isEmpty());
+    }
+
+    @Test
+    @DisplayName("공유 키 교체 후에도 이전 키로 발급된 토큰은 만료 전까지 검증")
+    public void testHmacKeyRotation() {
+        // given
+        MockEnvironment environment = environment(60_000, SECRET);
+        SigningKeyRing signingKeyRing = new SigningKeyRing(environment);
+        TokenProvider rotatingTokenProvider = new TokenProvider(signingKeyRing);
+        String oldToken = rotatingTokenProvider.createKakaoAccessToken("1").getToken();
+        String oldRefreshToken = rotatingTokenProvider.createRefreshToken().getToken();
+
+        // when
+        environment.setProperty("token.secret", newSecret());
+        signingKeyRing.onApplicationEvent(new EnvironmentChangeEvent(Collections.singleton("token.secret")));
+        String newToken = rotatingTokenProvider.createKakaoAccessToken("2").getToken();
+
+        // then
+        assertEquals("1", rotatingTokenProvider.parse(oldToken).get().getMemberId());
+        assertTrue(rotatingTokenProvider.parse(oldRefreshToken).isPresent());
+        assertEquals("2", rotatingTokenProvider.parse(newToken).get().getMemberId());
+        assertTrue(tokenProvider.parse(newToken).isEmpty());
+        assertEquals(2, signingKeyRing.current().getHmacKeys().size());
+    }
+
+    @Test
+    @DisplayName("token.* 이외의 설정 변경은 키 묶음을 교체하지 않음")
+    public void testUnrelatedRefreshKeepsSnapshot() {
+        // given
+        SigningKeyRing signingKeyRing = new SigningKeyRing(environment(60_000, SECRET));
+        SigningKeyRing.Snapshot before = signingKeyRing.current();
+
+        // when
+        signingKeyRing.onApplicationEvent(new EnvironmentChangeEvent(Collections.singleton("spring.redis.host")));
+
+        // then
+        assertSame(before, signingKeyRing.current());
+    }
+
+    @Test
+    @DisplayName("ES256 액세스 토큰은 kid 헤더를 포함하고 공개 키로 검증")
+    public void testEs256AccessToken() throws Exception {
+        // given
+        MockEnvironment environment = environment(60_000, SECRET);
+        withEs256Key(environment, 0, "key-2023", JwtKeyStore.generateKeyPair());
+        environment.setProperty("token.jwk.active-kid", "key-2023");
+        TokenProvider es256TokenProvider = new TokenProvider(new SigningKeyRing(environment));
+
+        // when
+        String token = es256TokenProvider.createKakaoAccessToken("1").getToken();
+
+        // then
+        String header = new String(Base64.getUrlDecoder().decode(token.substring(0, token.indexOf('.'))));
+        assertTrue(header.contains("\"kid\":\"key-2023\""));
+        assertTrue(header.contains("\"alg\":\"ES256\""));
+        assertEquals("1", es256TokenProvider.parse(token).get().getMemberId());
+        // 공유 비밀 키만 가진 쪽은 ES256 토큰을 검증할 수 없음
+        assertTrue(tokenProvider.parse(token).isEmpty());
+        // 리프레시 토큰은 HS512 유지
+        assertTrue(es256TokenProvider.parse(es256TokenProvider.createRefreshToken().getToken()).isPresent());
+    }
+
+    @Test
+    @DisplayName("ES256 키 교체 후에도 이전 kid 로 서명된 토큰 검증")
+    public void testEs256KeyRotation() throws Exception {
+        // given
+        KeyPair oldKeyPair = JwtKeyStore.generateKeyPair();
+        MockEnvironment environment = environment(60_000, SECRET);
+        withEs256Key(environment, 0, "old", oldKeyPair);
+        environment.setProperty("token.jwk.active-kid", "old");
+        SigningKeyRing signingKeyRing = new SigningKeyRing(environment);
+        TokenProvider es256TokenProvider = new TokenProvider(signingKeyRing);
+        String oldToken = es256TokenProvider.createKakaoAccessToken("1").getToken();
+
+        // when
+        withEs256Key(environment, 1, "new", JwtKeyStore.generateKeyPair());
+        environment.setProperty("token.jwk.active-kid", "new");
+        signingKeyRing.onApplicationEvent(new EnvironmentChangeEvent(Collections.singleton("token.jwk.active-kid")));
+
+        // then
+        assertEquals("1", es256TokenProvider.parse(oldToken).get().getMemberId());
+        assertEquals("new", signingKeyRing.current().getJwtKeyStore().getSigningKid());
+        assertEquals(2, ((List<?>) signingKeyRing.current().getJwtKeyStore().toJwks().get("keys")).size());
+    }
+
+    @Test
+    @DisplayName("token.jwk 설정이 그대로면 갱신 후에도 임시 ES256 키 유지")
+    public void testEphemeralEs256KeyKeptOnRefresh() {
+        // given
+        MockEnvironment environment = environment(60_000, SECRET).withProperty("token.jwk.algorithm", "ES256");
+        SigningKeyRing signingKeyRing = new SigningKeyRing(environment);
+        TokenProvider es256TokenProvider = new TokenProvider(signingKeyRing);
+        JwtKeyStore before = signingKeyRing.current().getJwtKeyStore();
+        String token = es256TokenProvider.createKakaoAccessToken("1").getToken();
+
+        // when
+        environment.setProperty("token.secret", newSecret());
+        signingKeyRing.onApplicationEvent(new EnvironmentChangeEvent(Collections.singleton("token.secret")));
+
+        // then
+        assertSame(before, signingKeyRing.current().getJwtKeyStore());
+        assertEquals("1", es256TokenProvider.parse(token).get().getMemberId());
+    }
+
+    @Test
+    @DisplayName("설정에서 제거한 ES256 공개 키는 가장 긴 토큰 수명 동안만 검증")
+    public void testRemovedEs256KeyRetired() throws Exception {
+        // given
+        MockEnvironment environment = environment(60_000, SECRET);
+        withEs256Key(environment, 0, "old", JwtKeyStore.generateKeyPair());
+        environment.setProperty("token.jwk.active-kid", "old");
+        SigningKeyRing signingKeyRing = new SigningKeyRing(environment);
+        TokenProvider es256TokenProvider = new TokenProvider(signingKeyRing);
+        String oldToken = es256TokenProvider.createKakaoAccessToken("1").getToken();
+
+        // when (old 키를 설정에서 바로 제거)
+        withEs256Key(environment, 0, "new", JwtKeyStore.generateKeyPair());
+        environment.setProperty("token.jwk.active-kid", "new");
+        signingKeyRing.onApplicationEvent(new EnvironmentChangeEvent(Collections.singleton("token.jwk.active-kid")));
+
+        // then
+        JwtKeyStore jwtKeyStore = signingKeyRing.current().getJwtKeyStore();
+        long now = System.currentTimeMillis();
+        assertEquals("1", es256TokenProvider.parse(oldToken).get().getMemberId());
+        assertEquals(2, ((List<?>) jwtKeyStore.toJwks().get("keys")).size());
+        assertNotNull(jwtKeyStore.getVerificationKey("old", now + 599_000));
+        assertNull(jwtKeyStore.getVerificationKey("old", now + 601_000));
+        assertNotNull(jwtKeyStore.getVerificationKey("new", Long.MAX_VALUE));
+    }
+
+    @Test
+    @DisplayName("압축 액세스 토큰은 m, r, exp 클레임만 포함하고 기존 형식과 같은 값으로 파싱")
+    public void testCompactAccessToken() {
+        // given
+        MockEnvironment environment = environment(60_000, SECRET).withProperty("token.compact-access-token", "true");
+        TokenProvider compactTokenProvider = new TokenProvider(new SigningKeyRing(environment));
+        List<String> roles = Arrays.asList("ROLE_USER", "ROLE_ADMIN");
+
+        // when
+        String compactToken = compactTokenProvider.createAccessToken("12345", "/auth/login", roles).getToken();
+        String legacyToken = tokenProvider.createAccessToken("12345", "/auth/login", roles).getToken();
+
+        // then
+        String payload = new String(Base64.getUrlDecoder().decode(compactToken.split("\\.")[1]));
+        assertTrue(payload.matches("\\{\"m\":12345,\"jti\":\"[\\w-]{16}\",\"exp\":\\d+,\"r\":3}"), payload);
+        assertTrue(compactToken.length() < legacyToken.length());
+        // 압축 형식으로 전환 후에도 기존 토큰 검증
+        for (String token : Arrays.asList(compactToken, legacyToken)) {
+            ParsedToken parsedToken = compactTokenProvider.parse(token).get();
+            assertEquals("12345", parsedToken.getMemberId());
+            assertEquals(roles, parsedToken.getRoles());
+        }
+    }
+
+    @Test
+    @DisplayName("비트가 없는 권한이나 숫자가 아닌 아이디는 기존 형식으로 발급")
+    public void testCompactAccessTokenFallback() {
+        // given
+        TokenProvider compactTokenProvider = new TokenProvider(new SigningKeyRing(
+                environment(60_000, SECRET).withProperty("token.compact-access-token", "true")));
+
+        // when
+        ParsedToken unknownRole = compactTokenProvider.parse(
+                compactTokenProvider.createAccessToken("1", "/auth/login", Arrays.asList("ROLE_MANAGER")).getToken()).get();
+        ParsedToken nonNumericId = compactTokenProvider.parse(compactTokenProvider.createKakaoAccessToken("kakao-1").getToken()).get();
+
+        // then
+        assertEquals(Arrays.asList("ROLE_MANAGER"), unknownRole.getRoles());
+        assertNotNull(unknownRole.getIssuedAt());
+        assertEquals("kakao-1", nonNumericId.getMemberId());
+    }
+
+    private static MockEnvironment environment(long expiration, String secret) {
+        return new MockEnvironment()
+                .withProperty("token.access-expiration-time", String.valueOf(expiration))
+                .withProperty("token.refresh-expiration-time", String.valueOf(expiration * 10))
+                .withProperty("token.secret", secret);
+    }
+
+    private static void withEs256Key(MockEnvironment environment, int index, String kid, KeyPair keyPair) {
+        String prefix = "token.jwk.keys[" + index + "].";
+        environment.setProperty("token.jwk.algorithm", "ES256");
+        environment.setProperty(prefix + "kid", kid);
+        environment.setProperty(prefix + "public-key", Base64.getEncoder().encodeToString(keyPair.getPublic().getEncoded()));
+        environment.setProperty(prefix + "private-key", Base64.getEncoder().encodeToString(keyPair.getPrivate().getEncoded()));
+    }
+
+    private static String newSecret() {
+        return Base64.getEncoder().encodeToString(Keys.secretKeyFor(SignatureAlgorithm.HS512).getEncoded());
+    }
+}
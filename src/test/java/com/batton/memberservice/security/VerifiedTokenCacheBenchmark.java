@@ -0,0 +1,82 @@
+package com.batton.memberservice.security;
+
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.mock.env.MockEnvironment;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Random;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 토큰 재사용 분포(소수 토큰에 요청 집중)에서 캐시 유무에 따른 검증 시간 비교 (./gradlew benchmark)
+ */
+@Tag("benchmark")
+public class VerifiedTokenCacheBenchmark {
+    private static final int TOKEN_COUNT = 5_000;
+    private static final int REQUEST_COUNT = 200_000;
+
+    @Test
+    @DisplayName("캐시 사용 시 요청당 평균 검증 시간 감소")
+    public void benchmarkVerify() {
+        TokenProvider tokenProvider = new TokenProvider(new SigningKeyRing(new MockEnvironment()
+                .withProperty("token.access-expiration-time", "600000")
+                .withProperty("token.refresh-expiration-time", "6000000")
+                .withProperty("token.secret", Base64.getEncoder().encodeToString(Keys.secretKeyFor(SignatureAlgorithm.HS512).getEncoded()))));
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        TokenDenylist tokenDenylist = new TokenDenylist(mock(StringRedisTemplate.class), meterRegistry, 1000);
+        VerifiedTokenCache verifiedTokenCache = new VerifiedTokenCache(tokenProvider, tokenDenylist, meterRegistry, TOKEN_COUNT);
+        String[] tokens = new String[TOKEN_COUNT];
+
+        for (int i = 0; i < TOKEN_COUNT; i++) {
+            tokens[i] = tokenProvider.createKakaoAccessToken(String.valueOf(i)).getToken();
+        }
+        int[] requests = zipfRequests(new Random(42));
+
+        long uncached = run(token -> tokenProvider.parse(token).isPresent(), tokens, requests);
+        long cached = run(token -> verifiedTokenCache.verify(token).isPresent(), tokens, requests);
+        System.out.printf("requests=%d uncached=%.1fns/op cached=%.1fns/op%n",
+                REQUEST_COUNT, (double) uncached / REQUEST_COUNT, (double) cached / REQUEST_COUNT);
+
+        assertTrue(cached < uncached, "cached=" + cached + " uncached=" + uncached);
+    }
+
+    private static long run(Predicate<String> verifier, String[] tokens, int[] requests) {
+        long startTime = System.nanoTime();
+
+        for (int request : requests) {
+            assertTrue(verifier.test(tokens[request]));
+        }
+
+        return System.nanoTime() - startTime;
+    }
+
+    /**
+     * 순위 r 인 토큰이 1/r 비율로 요청되는 분포
+     */
+    private static int[] zipfRequests(Random random) {
+        double[] cumulative = new double[TOKEN_COUNT];
+        double sum = 0;
+
+        for (int i = 0; i < TOKEN_COUNT; i++) {
+            sum += 1.0 / (i + 1);
+            cumulative[i] = sum;
+        }
+        int[] requests = new int[REQUEST_COUNT];
+
+        for (int i = 0; i < REQUEST_COUNT; i++) {
+            int index = Arrays.binarySearch(cumulative, random.nextDouble() * sum);
+            requests[i] = index >= 0 ? index : Math.min(-index - 1, TOKEN_COUNT - 1);
+        }
+
+        return requests;
+    }
+}
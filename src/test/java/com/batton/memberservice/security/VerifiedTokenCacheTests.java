@@ -0,0 +1,124 @@
+package com.batton.memberservice.security;
+
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletResponse;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+public class VerifiedTokenCacheTests {
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final TokenProvider tokenProvider = new TokenProvider(new SigningKeyRing(new MockEnvironment()
+            .withProperty("token.access-expiration-time", "60000")
+            .withProperty("token.refresh-expiration-time", "600000")
+            .withProperty("token.secret", Base64.getEncoder().encodeToString(Keys.secretKeyFor(SignatureAlgorithm.HS512).getEncoded()))));
+    private final TokenDenylist tokenDenylist = new TokenDenylist(mock(StringRedisTemplate.class), meterRegistry, 100);
+    private final VerifiedTokenCache verifiedTokenCache = new VerifiedTokenCache(tokenProvider, tokenDenylist, meterRegistry, 100);
+
+    @AfterEach
+    public void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("같은 토큰 재검증 시 서명 검증 생략")
+    public void testCacheHit() {
+        // given
+        String token = tokenProvider.createAccessToken("1", "/auth/login", Arrays.asList("ROLE_USER")).getToken();
+
+        // when
+        verifiedTokenCache.verify(token);
+        ParsedToken parsedToken = verifiedTokenCache.verify(token).get();
+
+        // then
+        assertEquals("1", parsedToken.getMemberId());
+        assertEquals(1, meterRegistry.get("auth.token.verify").timer().count());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "auth.token.verified").tag("result", "hit").functionCounter().count());
+    }
+
+    @Test
+    @DisplayName("유효하지 않은 토큰은 캐시하지 않음")
+    public void testInvalidTokenNotCached() {
+        // given
+        String token = tokenProvider.createKakaoAccessToken("1").getToken() + "x";
+
+        // when
+        verifiedTokenCache.verify(token);
+
+        // then
+        assertTrue(verifiedTokenCache.verify(token).isEmpty());
+        assertEquals(2, meterRegistry.get("auth.token.verify").timer().count());
+    }
+
+    @Test
+    @DisplayName("캐시된 토큰도 폐기되면 바로 거절")
+    public void testRevokedTokenRejected() {
+        // given
+        IssuedToken issuedToken = tokenProvider.createKakaoAccessToken("1");
+        verifiedTokenCache.verify(issuedToken.getToken());
+
+        // when
+        tokenDenylist.revoke(issuedToken.getTokenId(), issuedToken.getExpiration().getTime());
+
+        // then
+        assertTrue(verifiedTokenCache.verify(issuedToken.getToken()).isEmpty());
+        assertEquals(1, meterRegistry.get("auth.token.verify").timer().count());
+    }
+
+    @Test
+    @DisplayName("Bearer 토큰 검증 후 유저 아이디와 권한으로 SecurityContext 생성")
+    public void testFilterAuthenticates() throws Exception {
+        // given
+        String token = tokenProvider.createAccessToken("1", "/auth/login", Arrays.asList("ROLE_USER")).getToken();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/members");
+        request.addHeader("Authorization", "Bearer " + token);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        AtomicReference<Authentication> authentication = new AtomicReference<>();
+
+        // when
+        new HeaderAuthorizationFilter(verifiedTokenCache).doFilter(request, response, new MockFilterChain() {
+            @Override
+            public void doFilter(ServletRequest request, ServletResponse response) {
+                authentication.set(SecurityContextHolder.getContext().getAuthentication());
+            }
+        });
+
+        // then
+        assertEquals("1", authentication.get().getPrincipal());
+        assertEquals("ROLE_USER", authentication.get().getAuthorities().iterator().next().getAuthority());
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+    }
+
+    @Test
+    @DisplayName("유효하지 않은 Bearer 토큰은 401 응답")
+    public void testFilterRejectsInvalidToken() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/members");
+        request.addHeader("Authorization", "Bearer invalid");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain filterChain = new MockFilterChain();
+
+        // when
+        new HeaderAuthorizationFilter(verifiedTokenCache).doFilter(request, response, filterChain);
+
+        // then
+        assertEquals(401, response.getStatus());
+        assertNull(filterChain.getRequest());
+    }
+}
@@ -0,0 +1,149 @@
+package com.batton.memberservice.security.service;
+
+import com.batton.memberservice.enums.Status;
+import com.batton.memberservice.repository.MemberRepository;
+import com.batton.memberservice.security.IssuedToken;
+import com.batton.memberservice.security.RefreshTokenStore;
+import com.batton.memberservice.security.SigningKeyRing;
+import com.batton.memberservice.security.TokenDenylist;
+import com.batton.memberservice.security.TokenProvider;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.mock.env.MockEnvironment;
+import redis.embedded.RedisServer;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 액세스 토큰이 한꺼번에 만료되어 재발급이 몰릴 때 서비스 처리 시간 측정 (./gradlew benchmark)
+ * 실제 Redis(embedded-redis)에서 Lua 교체 스크립트 왕복까지 포함하여 측정함
+ */
+@Tag("benchmark")
+public class RefreshTokenBenchmark {
+    private static final int WARMUP_COUNT = 5_000;
+    private static final int MEMBER_COUNT = 20_000;
+    private static final int THREAD_COUNT = Runtime.getRuntime().availableProcessors() * 2;
+    private static RedisServer redisServer;
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    @BeforeAll
+    public static void startRedis() throws IOException {
+        int port;
+        try (ServerSocket serverSocket = new ServerSocket(0)) {
+            port = serverSocket.getLocalPort();
+        }
+        redisServer = new RedisServer(port);
+        redisServer.start();
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    public static void stopRedis() throws IOException {
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @Test
+    @DisplayName("동시 재발급 p99 5ms 이하")
+    public void benchmarkConcurrentRefresh() throws InterruptedException {
+        String secret = Base64.getEncoder().encodeToString(Keys.secretKeyFor(SignatureAlgorithm.HS512).getEncoded());
+        SigningKeyRing signingKeyRing = signingKeyRing(secret, 600_000);
+        TokenProvider tokenProvider = new TokenProvider(signingKeyRing);
+        TokenProvider expiredTokenProvider = new TokenProvider(signingKeyRing(secret, -1_000));
+        RefreshTokenStore refreshTokenStore = new RefreshTokenStore(redisTemplate, signingKeyRing, 5_000, 300_000);
+        MemberRepository memberRepository = mock(MemberRepository.class);
+        RefreshTokenService refreshTokenService = new RefreshTokenService(tokenProvider, memberRepository, refreshTokenStore,
+                mock(TokenDenylist.class));
+        String[] accessTokens = new String[WARMUP_COUNT + MEMBER_COUNT];
+        String[] refreshTokens = new String[WARMUP_COUNT + MEMBER_COUNT];
+
+        // 로그인 시 저장된 리프레시 토큰
+        for (int i = 0; i < accessTokens.length; i++) {
+            accessTokens[i] = expiredTokenProvider.createAccessToken(String.valueOf(i + 1), "/auth/login",
+                    Collections.singletonList("ROLE_USER")).getToken();
+            IssuedToken refreshToken = tokenProvider.createRefreshToken();
+            refreshTokens[i] = refreshToken.getToken();
+            refreshTokenStore.issue((long) i + 1, refreshToken.getTokenId(), Collections.singletonList("ROLE_USER"), Status.ENABLED);
+        }
+        // JIT, 커넥션 준비 (측정 제외)
+        refreshConcurrently(refreshTokenService, accessTokens, refreshTokens, 0, WARMUP_COUNT);
+
+        // when
+        long[] latencies = refreshConcurrently(refreshTokenService, accessTokens, refreshTokens, WARMUP_COUNT, accessTokens.length);
+
+        // then
+        Arrays.sort(latencies);
+        double p50 = latencies[MEMBER_COUNT / 2] / 1_000_000.0;
+        double p99 = latencies[(int) (MEMBER_COUNT * 0.99)] / 1_000_000.0;
+        System.out.printf("threads=%d refreshes=%d p50=%.3fms p99=%.3fms%n", THREAD_COUNT, MEMBER_COUNT, p50, p99);
+
+        assertTrue(p99 < 5, "p99=" + p99);
+        assertEquals(accessTokens.length, redisTemplate.keys("refresh:{*}:used:*").size());
+        verifyNoInteractions(memberRepository);
+    }
+
+    /**
+     * from 부터 to 전까지의 유저가 동시에 재발급 (유저별 지연 시간 반환, 실패하면 예외)
+     */
+    private static long[] refreshConcurrently(RefreshTokenService refreshTokenService, String[] accessTokens, String[] refreshTokens,
+                                              int from, int to) throws InterruptedException {
+        long[] latencies = new long[to - from];
+        AtomicInteger next = new AtomicInteger(from);
+        AtomicInteger refreshed = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+
+        for (int t = 0; t < THREAD_COUNT; t++) {
+            executorService.execute(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+
+                    return;
+                }
+                for (int i = next.getAndIncrement(); i < to; i = next.getAndIncrement()) {
+                    long startTime = System.nanoTime();
+                    refreshTokenService.refreshToken(accessTokens[i], refreshTokens[i]);
+                    latencies[i - from] = System.nanoTime() - startTime;
+                    refreshed.incrementAndGet();
+                }
+            });
+        }
+        start.countDown();
+        executorService.shutdown();
+        assertTrue(executorService.awaitTermination(2, TimeUnit.MINUTES));
+        assertEquals(to - from, refreshed.get());
+
+        return latencies;
+    }
+
+    private static SigningKeyRing signingKeyRing(String secret, long expiration) {
+        return new SigningKeyRing(new MockEnvironment()
+                .withProperty("token.access-expiration-time", String.valueOf(expiration))
+                .withProperty("token.refresh-expiration-time", "600000")
+                .withProperty("token.secret", secret));
+    }
+}
@@ -0,0 +1,168 @@
+package com.batton.memberservice.security.service;
+
+import com.batton.memberservice.common.BaseException;
+import com.batton.memberservice.domain.Member;
+import com.batton.memberservice.enums.Authority;
+import com.batton.memberservice.enums.Status;
+import com.batton.memberservice.repository.MemberRepository;
+import com.batton.memberservice.security.IssuedToken;
+import com.batton.memberservice.security.ParsedToken;
+import com.batton.memberservice.security.RefreshTokenStore;
+import com.batton.memberservice.security.SigningKeyRing;
+import com.batton.memberservice.security.TokenDTO;
+import com.batton.memberservice.security.TokenDenylist;
+import com.batton.memberservice.security.TokenProvider;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Optional;
+
+import static com.batton.memberservice.common.BaseResponseStatus.INVALID_ACCESS_TOKEN;
+import static com.batton.memberservice.common.BaseResponseStatus.INVALID_REFRESH_TOKEN;
+import static com.batton.memberservice.common.BaseResponseStatus.MEMBER_INVALID_USER_ID;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+public class RefreshTokenServiceTests {
+    private static final String SECRET = Base64.getEncoder().encodeToString(Keys.secretKeyFor(SignatureAlgorithm.HS512).getEncoded());
+    private final TokenProvider tokenProvider = tokenProvider(60_000);
+    private final MemberRepository memberRepository = mock(MemberRepository.class);
+    private final RefreshTokenStore refreshTokenStore = mock(RefreshTokenStore.class);
+    private final TokenDenylist tokenDenylist = mock(TokenDenylist.class);
+    private final RefreshTokenService refreshTokenService = new RefreshTokenService(tokenProvider, memberRepository,
+            refreshTokenStore, tokenDenylist);
+
+    @Test
+    @DisplayName("저장된 권한/상태로 새 토큰 쌍을 발급하고 DB 는 조회하지 않음")
+    public void testRefreshWithoutDatabase() {
+        // given
+        String expiredAccessToken = tokenProvider(-1_000).createAccessToken("1", "/auth/login", Arrays.asList("ROLE_USER")).getToken();
+        String refreshToken = tokenProvider.createRefreshToken().getToken();
+        when(refreshTokenStore.rotate(eq(1L), anyString(), anyString())).thenReturn(new RefreshTokenStore.Rotation(
+                RefreshTokenStore.RotationResult.ROTATED, Arrays.asList("ROLE_USER", "ROLE_ADMIN"), Status.ENABLED));
+
+        // when
+        TokenDTO.TokenData tokenData = refreshTokenService.refreshToken(expiredAccessToken, refreshToken);
+
+        // then
+        ParsedToken newAccessToken = tokenProvider.parse(tokenData.getAccessToken()).orElseThrow();
+        assertNotEquals(expiredAccessToken, tokenData.getAccessToken());
+        assertEquals("1", newAccessToken.getMemberId());
+        assertEquals(Arrays.asList("ROLE_USER", "ROLE_ADMIN"), newAccessToken.getRoles());
+        assertNotNull(tokenProvider.parse(tokenData.getRefreshToken()).orElseThrow().getRefreshTokenId());
+        assertNotEquals(refreshToken, tokenData.getRefreshToken());
+        verify(refreshTokenStore, times(1)).rotate(eq(1L), anyString(), anyString());
+        verifyNoInteractions(memberRepository);
+    }
+
+    @Test
+    @DisplayName("권한/상태가 캐시에 없으면 한 번만 DB 에서 읽어 저장")
+    public void testRefreshLoadsMemberOnce() {
+        // given
+        String accessToken = tokenProvider.createKakaoAccessToken("1").getToken();
+        String refreshToken = tokenProvider.createRefreshToken().getToken();
+        when(refreshTokenStore.rotate(eq(1L), anyString(), anyString())).thenReturn(new RefreshTokenStore.Rotation(
+                RefreshTokenStore.RotationResult.ROTATED, Collections.emptyList(), null));
+        when(memberRepository.findById(1L)).thenReturn(Optional.of(member(Status.ENABLED)));
+
+        // when
+        TokenDTO.TokenData tokenData = refreshTokenService.refreshToken(accessToken, refreshToken);
+
+        // then
+        assertEquals(Collections.singletonList("ROLE_USER"), tokenProvider.parse(tokenData.getAccessToken()).orElseThrow().getRoles());
+        verify(refreshTokenStore).cacheMember(1L, Collections.singletonList("ROLE_USER"), Status.ENABLED);
+    }
+
+    @Test
+    @DisplayName("비활성화된 유저는 재발급하지 않고 토큰을 모두 폐기")
+    public void testRefreshDisabledMember() {
+        // given
+        String accessToken = tokenProvider.createKakaoAccessToken("1").getToken();
+        String refreshToken = tokenProvider.createRefreshToken().getToken();
+        when(refreshTokenStore.rotate(eq(1L), anyString(), anyString())).thenReturn(new RefreshTokenStore.Rotation(
+                RefreshTokenStore.RotationResult.ROTATED, Collections.singletonList("ROLE_USER"), Status.DISABLED));
+
+        // when
+        BaseException exception = assertThrows(BaseException.class, () -> refreshTokenService.refreshToken(accessToken, refreshToken));
+
+        // then
+        assertEquals(MEMBER_INVALID_USER_ID, exception.getStatus());
+        verify(refreshTokenStore).revokeAll(1L);
+    }
+
+    @Test
+    @DisplayName("교체된 리프레시 토큰 재사용 및 잘못된 토큰은 예외 처리")
+    public void testRefreshInvalidToken() {
+        // given
+        String accessToken = tokenProvider.createKakaoAccessToken("1").getToken();
+        String refreshToken = tokenProvider.createRefreshToken().getToken();
+        when(refreshTokenStore.rotate(eq(1L), anyString(), anyString())).thenReturn(new RefreshTokenStore.Rotation(
+                RefreshTokenStore.RotationResult.REUSED, Collections.emptyList(), null));
+
+        // when, then
+        assertEquals(INVALID_REFRESH_TOKEN, assertThrows(BaseException.class,
+                () -> refreshTokenService.refreshToken(accessToken, refreshToken)).getStatus());
+        assertEquals(INVALID_REFRESH_TOKEN, assertThrows(BaseException.class,
+                () -> refreshTokenService.refreshToken(accessToken, accessToken)).getStatus());
+        assertEquals(INVALID_REFRESH_TOKEN, assertThrows(BaseException.class,
+                () -> refreshTokenService.refreshToken(refreshToken, refreshToken)).getStatus());
+        verifyNoInteractions(memberRepository);
+    }
+
+    @Test
+    @DisplayName("로그아웃 시 리프레시 토큰을 폐기하고 액세스 토큰은 만료 시각까지 폐기 목록에 추가")
+    public void testLogout() {
+        // given
+        IssuedToken accessToken = tokenProvider.createKakaoAccessToken("1");
+        IssuedToken refreshToken = tokenProvider.createRefreshToken();
+        when(refreshTokenStore.revoke(1L, refreshToken.getTokenId())).thenReturn(true);
+
+        // when
+        refreshTokenService.logoutToken(accessToken.getToken(), refreshToken.getToken());
+
+        // then
+        // JWT 의 exp 는 초 단위
+        verify(tokenDenylist, times(1)).revoke(accessToken.getTokenId(), accessToken.getExpiration().getTime() / 1000 * 1000);
+        verify(refreshTokenStore, times(1)).revoke(1L, refreshToken.getTokenId());
+    }
+
+    @Test
+    @DisplayName("잘못된 토큰이나 이미 폐기된 리프레시 토큰으로 로그아웃하면 예외 처리")
+    public void testLogoutInvalidToken() {
+        // given
+        String accessToken = tokenProvider.createKakaoAccessToken("1").getToken();
+        String refreshToken = tokenProvider.createRefreshToken().getToken();
+        when(refreshTokenStore.revoke(eq(1L), anyString())).thenReturn(false);
+
+        // when, then
+        assertEquals(INVALID_ACCESS_TOKEN, assertThrows(BaseException.class,
+                () -> refreshTokenService.logoutToken(refreshToken, refreshToken)).getStatus());
+        assertEquals(INVALID_REFRESH_TOKEN, assertThrows(BaseException.class,
+                () -> refreshTokenService.logoutToken(accessToken, accessToken)).getStatus());
+        assertEquals(INVALID_REFRESH_TOKEN, assertThrows(BaseException.class,
+                () -> refreshTokenService.logoutToken(accessToken, refreshToken)).getStatus());
+    }
+
+    private static Member member(Status status) {
+        return Member.builder()
+                .id(1L)
+                .email("member@email.com")
+                .nickname("member")
+                .authority(Authority.ROLE_USER)
+                .status(status)
+                .build();
+    }
+
+    private static TokenProvider tokenProvider(long expiration) {
+        return new TokenProvider(new SigningKeyRing(new MockEnvironment()
+                .withProperty("token.access-expiration-time", String.valueOf(expiration))
+                .withProperty("token.refresh-expiration-time", "600000")
+                .withProperty("token.secret", SECRET)));
+    }
+}
@@ -0,0 +1,100 @@
+package com.batton.memberservice.security.service;
+
+import com.batton.memberservice.cache.MemberStatusCache;
+import com.batton.memberservice.controller.AuthController;
+import com.batton.memberservice.dto.PostTokenIntrospectReqDTO;
+import com.batton.memberservice.repository.MemberRepository;
+import com.batton.memberservice.security.InternalCallerVerifier;
+import com.batton.memberservice.security.SigningKeyRing;
+import com.batton.memberservice.security.TokenDenylist;
+import com.batton.memberservice.security.TokenProvider;
+import com.batton.memberservice.security.VerifiedTokenCache;
+import com.batton.memberservice.service.AuthService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.http.MediaType;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 배치 크기 1/32/256 별 POST /auth/introspect 처리량 비교 (./gradlew benchmark)
+ */
+@Tag("benchmark")
+public class TokenIntrospectionBenchmark {
+    private static final int TOKEN_COUNT = 32_768;
+    private static final int MEMBER_COUNT = 10_000;
+
+    @Test
+    @DisplayName("배치가 클수록 토큰당 처리 비용 감소")
+    public void benchmarkBatchSizes() throws Exception {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        TokenProvider tokenProvider = new TokenProvider(new SigningKeyRing(new MockEnvironment()
+                .withProperty("token.access-expiration-time", "600000")
+                .withProperty("token.refresh-expiration-time", "6000000")
+                .withProperty("token.secret", Base64.getEncoder().encodeToString(Keys.secretKeyFor(SignatureAlgorithm.HS512).getEncoded()))));
+        TokenDenylist tokenDenylist = new TokenDenylist(mock(StringRedisTemplate.class), meterRegistry, 1000);
+        MemberRepository memberRepository = mock(MemberRepository.class);
+        // 유저 상태 조회는 실제 DB 왕복 비용(약 0.5ms)을 가정
+        when(memberRepository.findEnabledIdsByIdIn(anyCollection())).thenAnswer(invocation -> {
+            Thread.sleep(0, 500_000);
+
+            return new ArrayList<>(invocation.<Collection<Long>>getArgument(0));
+        });
+        TokenIntrospectionService tokenIntrospectionService = new TokenIntrospectionService(
+                new VerifiedTokenCache(tokenProvider, tokenDenylist, meterRegistry, TOKEN_COUNT), tokenProvider, tokenDenylist,
+                new MemberStatusCache(meterRegistry, MEMBER_COUNT, 1), memberRepository);
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new AuthController(mock(AuthService.class), tokenIntrospectionService, mock(RefreshTokenService.class),
+                new InternalCallerVerifier("internal-secret"))).build();
+        ObjectMapper objectMapper = new ObjectMapper();
+        String[] tokens = new String[TOKEN_COUNT];
+
+        for (int i = 0; i < TOKEN_COUNT; i++) {
+            tokens[i] = tokenProvider.createKakaoAccessToken(String.valueOf(1 + i % MEMBER_COUNT)).getToken();
+        }
+        double[] throughput = new double[3];
+        int[] batchSizes = {1, 32, 256};
+
+        for (int i = 0; i < batchSizes.length; i++) {
+            // 워밍업 후 측정
+            run(mockMvc, objectMapper, tokens, batchSizes[i]);
+            long elapsed = run(mockMvc, objectMapper, tokens, batchSizes[i]);
+            throughput[i] = TOKEN_COUNT / (elapsed / 1_000_000_000.0);
+            System.out.printf("batch=%d tokens/s=%.0f%n", batchSizes[i], throughput[i]);
+        }
+
+        assertTrue(throughput[1] > throughput[0] && throughput[2] > throughput[1], Arrays.toString(throughput));
+    }
+
+    private static long run(MockMvc mockMvc, ObjectMapper objectMapper, String[] tokens, int batchSize) throws Exception {
+        long startTime = System.nanoTime();
+
+        for (int from = 0; from < tokens.length; from += batchSize) {
+            List<String> batch = Arrays.asList(tokens).subList(from, Math.min(tokens.length, from + batchSize));
+            mockMvc.perform(post("/auth/introspect")
+                            .header("X-Internal-Token", "internal-secret")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(new PostTokenIntrospectReqDTO(batch))))
+                    .andExpect(status().isOk());
+        }
+
+        return System.nanoTime() - startTime;
+    }
+}
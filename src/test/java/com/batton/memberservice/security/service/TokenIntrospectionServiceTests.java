@@ -0,0 +1,101 @@
+package com.batton.memberservice.security.service;
+
+import com.batton.memberservice.cache.MemberStatusCache;
+import com.batton.memberservice.common.BaseException;
+import com.batton.memberservice.dto.PostTokenIntrospectResDTO;
+import com.batton.memberservice.enums.TokenStatus;
+import com.batton.memberservice.repository.MemberRepository;
+import com.batton.memberservice.security.IssuedToken;
+import com.batton.memberservice.security.SigningKeyRing;
+import com.batton.memberservice.security.TokenDenylist;
+import com.batton.memberservice.security.TokenProvider;
+import com.batton.memberservice.security.VerifiedTokenCache;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.mock.env.MockEnvironment;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+public class TokenIntrospectionServiceTests {
+    private static final String SECRET = Base64.getEncoder().encodeToString(Keys.secretKeyFor(SignatureAlgorithm.HS512).getEncoded());
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final TokenProvider tokenProvider = tokenProvider(60_000);
+    private final TokenDenylist tokenDenylist = new TokenDenylist(mock(StringRedisTemplate.class), meterRegistry, 100);
+    private final MemberRepository memberRepository = mock(MemberRepository.class);
+    private final TokenIntrospectionService tokenIntrospectionService = new TokenIntrospectionService(
+            new VerifiedTokenCache(tokenProvider, tokenDenylist, meterRegistry, 100), tokenProvider, tokenDenylist,
+            new MemberStatusCache(meterRegistry, 100, 5), memberRepository);
+
+    @Test
+    @DisplayName("토큰별 상태를 요청 순서대로 응답하고 유저 상태는 한 번만 조회")
+    public void testIntrospect() {
+        // given
+        String active = tokenProvider.createAccessToken("1", "/auth/login", Arrays.asList("ROLE_USER")).getToken();
+        String disabled = tokenProvider.createKakaoAccessToken("2").getToken();
+        String expired = tokenProvider(-1_000).createKakaoAccessToken("1").getToken();
+        IssuedToken revoked = tokenProvider.createKakaoAccessToken("1");
+        tokenDenylist.revoke(revoked.getTokenId(), revoked.getExpiration().getTime());
+        String refreshToken = tokenProvider.createRefreshToken().getToken();
+        when(memberRepository.findEnabledIdsByIdIn(anyCollection())).thenReturn(Collections.singletonList(1L));
+
+        // when
+        List<PostTokenIntrospectResDTO> result = tokenIntrospectionService.introspect(
+                Arrays.asList(active, disabled, expired, revoked.getToken(), "invalid", refreshToken, active));
+
+        // then
+        assertEquals(TokenStatus.ACTIVE, result.get(0).getStatus());
+        assertEquals(Long.valueOf(1L), result.get(0).getMemberId());
+        assertEquals(Arrays.asList("ROLE_USER"), result.get(0).getRoles());
+        assertNotNull(result.get(0).getExpiration());
+        assertEquals(TokenStatus.MEMBER_DISABLED, result.get(1).getStatus());
+        assertEquals(TokenStatus.EXPIRED, result.get(2).getStatus());
+        assertEquals(TokenStatus.REVOKED, result.get(3).getStatus());
+        assertEquals(TokenStatus.INVALID, result.get(4).getStatus());
+        assertNull(result.get(4).getMemberId());
+        assertEquals(TokenStatus.INVALID, result.get(5).getStatus());
+        assertEquals(TokenStatus.ACTIVE, result.get(6).getStatus());
+        verify(memberRepository, times(1)).findEnabledIdsByIdIn(anyCollection());
+    }
+
+    @Test
+    @DisplayName("캐시된 유저 상태는 다시 조회하지 않음")
+    public void testMemberStatusCached() {
+        // given
+        String token = tokenProvider.createKakaoAccessToken("1").getToken();
+        when(memberRepository.findEnabledIdsByIdIn(anyCollection())).thenReturn(Collections.singletonList(1L));
+
+        // when
+        tokenIntrospectionService.introspect(Collections.singletonList(token));
+        tokenIntrospectionService.introspect(Collections.singletonList(token));
+
+        // then
+        verify(memberRepository, times(1)).findEnabledIdsByIdIn(anyCollection());
+    }
+
+    @Test
+    @DisplayName("최대 개수를 초과하면 예외 처리")
+    public void testBatchSizeExceeded() {
+        // given
+        List<String> tokens = Collections.nCopies(TokenIntrospectionService.MAX_BATCH_SIZE + 1, "token");
+
+        // when, then
+        assertThrows(BaseException.class, () -> tokenIntrospectionService.introspect(tokens));
+    }
+
+    private static TokenProvider tokenProvider(long expiration) {
+        return new TokenProvider(new SigningKeyRing(new MockEnvironment()
+                .withProperty("token.access-expiration-time", String.valueOf(expiration))
+                .withProperty("token.refresh-expiration-time", "600000")
+                .withProperty("token.secret", SECRET)));
+    }
+}
@@ -0,0 +1,181 @@
+package com.batton.memberservice.service;
+
+import com.batton.memberservice.common.BaseException;
+import com.batton.memberservice.dto.PostMemberReqDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.batton.memberservice.common.BaseResponseStatus.KAKAO_API_ERROR;
+import static com.batton.memberservice.common.BaseResponseStatus.KAKAO_EMAIL_REQUIRED;
+import static com.batton.memberservice.common.BaseResponseStatus.KAKAO_INVALID_TOKEN;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 로컬 카카오 스텁 서버로 지연, 오류 응답 주입
+ */
+public class KakaoApiClientTests {
+    private static final String PROFILE = "{\"id\":1,\"properties\":{\"nickname\":\"batton\"},"
+            + "\"kakao_account\":{\"has_email\":true,\"email\":\"member@kakao.com\"}}";
+    private static final long TIMEOUT_MILLIS = 300;
+    private final AtomicInteger hits = new AtomicInteger();
+    private volatile int status = 200;
+    private volatile String body = PROFILE;
+    private volatile long delayMillis = 0;
+    private HttpServer server;
+    private KakaoApiClient kakaoApiClient;
+
+    @BeforeEach
+    public void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/v2/user/me", exchange -> {
+            hits.incrementAndGet();
+            try {
+                Thread.sleep(delayMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] response = body.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(status, response.length);
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write(response);
+            }
+        });
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+        kakaoApiClient = new KakaoApiClient(new ObjectMapper(), new SimpleMeterRegistry(),
+                "http://localhost:" + server.getAddress().getPort() + "/v2/user/me", 200, TIMEOUT_MILLIS, 4, 60, 60);
+    }
+
+    @AfterEach
+    public void stopServer() {
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("사용자 정보 조회 후 같은 토큰은 카카오를 다시 호출하지 않음")
+    public void testProfileCached() {
+        // when
+        PostMemberReqDTO first = kakaoApiClient.getProfile("kakao-token");
+        PostMemberReqDTO second = kakaoApiClient.getProfile("kakao-token");
+        kakaoApiClient.getProfile("other-token");
+
+        // then
+        assertEquals("member@kakao.com", first.getEmail());
+        assertEquals("batton", first.getNickname());
+        assertSame(first, second);
+        assertEquals(2, hits.get());
+    }
+
+    @Test
+    @DisplayName("응답이 제한 시간을 넘으면 바로 실패")
+    public void testTimeout() {
+        // given
+        delayMillis = 3_000;
+
+        // when
+        long startTime = System.nanoTime();
+        BaseException exception = assertThrows(BaseException.class, () -> kakaoApiClient.getProfile("kakao-token"));
+        long elapsedMillis = (System.nanoTime() - startTime) / 1_000_000;
+
+        // then
+        assertEquals(KAKAO_API_ERROR, exception.getStatus());
+        assertTrue(elapsedMillis < TIMEOUT_MILLIS + 500, "elapsed=" + elapsedMillis);
+    }
+
+    @Test
+    @DisplayName("잘못되거나 일부만 온 응답은 실패하고 캐시하지 않음")
+    public void testMalformedResponse() {
+        // given
+        body = PROFILE.substring(0, PROFILE.length() / 2);
+
+        // when, then
+        assertEquals(KAKAO_API_ERROR, assertThrows(BaseException.class, () -> kakaoApiClient.getProfile("kakao-token")).getStatus());
+        body = "{\"kakao_account\":{\"has_email\":true}}";
+        assertEquals(KAKAO_API_ERROR, assertThrows(BaseException.class, () -> kakaoApiClient.getProfile("kakao-token")).getStatus());
+        body = PROFILE;
+        assertEquals("batton", kakaoApiClient.getProfile("kakao-token").getNickname());
+        assertEquals(3, hits.get());
+    }
+
+    @Test
+    @DisplayName("이메일 제공에 동의하지 않은 사용자는 빈 이메일로 가입시키지 않고 실패")
+    public void testEmailRequired() {
+        // given
+        body = "{\"id\":1,\"properties\":{\"nickname\":\"batton\"},\"kakao_account\":{\"has_email\":false}}";
+
+        // when
+        for (int i = 0; i < 20; i++) {
+            String token = "kakao-token-" + i;
+            assertEquals(KAKAO_EMAIL_REQUIRED, assertThrows(BaseException.class, () -> kakaoApiClient.getProfile(token)).getStatus());
+        }
+        body = "{\"id\":1,\"properties\":{\"nickname\":\"batton\"},\"kakao_account\":{\"has_email\":true,\"email\":\" \"}}";
+        assertEquals(KAKAO_EMAIL_REQUIRED, assertThrows(BaseException.class, () -> kakaoApiClient.getProfile("kakao-token")).getStatus());
+
+        // then (서킷 실패율에 포함하지 않음)
+        assertEquals(21, hits.get());
+    }
+
+    @Test
+    @DisplayName("이메일 제공 동의 전이라 email 이 없는 응답이 이어져도 서킷이 열리지 않음")
+    public void testEmailNeedsAgreement() {
+        // given
+        body = "{\"id\":1,\"properties\":{\"nickname\":\"batton\"},"
+                + "\"kakao_account\":{\"has_email\":true,\"email_needs_agreement\":true}}";
+
+        // when
+        for (int i = 0; i < 20; i++) {
+            String token = "kakao-token-" + i;
+            assertEquals(KAKAO_EMAIL_REQUIRED, assertThrows(BaseException.class, () -> kakaoApiClient.getProfile(token)).getStatus());
+        }
+        body = PROFILE;
+
+        // then (서킷이 닫혀 있어 다음 호출은 카카오까지 감)
+        assertEquals("member@kakao.com", kakaoApiClient.getProfile("kakao-token").getEmail());
+        assertEquals(21, hits.get());
+    }
+
+    @Test
+    @DisplayName("카카오 오류가 이어지면 서킷이 열려 더 이상 호출하지 않음")
+    public void testCircuitOpen() {
+        // given
+        status = 500;
+
+        // when
+        for (int i = 0; i < 20; i++) {
+            String token = "kakao-token-" + i;
+            assertEquals(KAKAO_API_ERROR, assertThrows(BaseException.class, () -> kakaoApiClient.getProfile(token)).getStatus());
+        }
+
+        // then
+        assertEquals(10, hits.get());
+    }
+
+    @Test
+    @DisplayName("토큰 오류는 서킷 실패율에 포함하지 않음")
+    public void testInvalidTokenIgnoredByCircuit() {
+        // given
+        status = 401;
+
+        // when
+        for (int i = 0; i < 20; i++) {
+            String token = "kakao-token-" + i;
+            assertEquals(KAKAO_INVALID_TOKEN, assertThrows(BaseException.class, () -> kakaoApiClient.getProfile(token)).getStatus());
+        }
+
+        // then
+        assertEquals(20, hits.get());
+    }
+}
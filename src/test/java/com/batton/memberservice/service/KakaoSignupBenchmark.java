@@ -0,0 +1,204 @@
+package com.batton.memberservice.service;
+
+import com.batton.memberservice.cache.EmailExistenceFilter;
+import com.batton.memberservice.cache.MemberEmailCache;
+import com.batton.memberservice.cache.MemberProfileCache;
+import com.batton.memberservice.domain.Member;
+import com.batton.memberservice.dto.PostMemberReqDTO;
+import com.batton.memberservice.enums.Authority;
+import com.batton.memberservice.enums.Status;
+import com.batton.memberservice.mq.MemberEventPublisher;
+import com.batton.memberservice.mq.QueueService;
+import com.batton.memberservice.repository.MemberOutboxRepository;
+import com.batton.memberservice.repository.MemberRepository;
+import com.batton.memberservice.security.IssuedToken;
+import com.batton.memberservice.security.TokenDTO;
+import com.batton.memberservice.security.TokenProvider;
+import com.batton.memberservice.security.service.RefreshTokenService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * MySQL 모드 H2 에서 카카오 첫 로그인(단일 INSERT), 재로그인, 조회 후 저장 방식의 지연 시간 비교
+ */
+@Tag("benchmark")
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:kakao-benchmark;MODE=MySQL;LOCK_TIMEOUT=10000;DB_CLOSE_DELAY=-1",
+        "spring.datasource.hikari.maximum-pool-size=20",
+        "social-key.vite-kakao-key=key",
+        "social-key.vite-kakao-redirect=redirect"})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({AuthService.class, MemberEventPublisher.class})
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+public class KakaoSignupBenchmark {
+    private static final int LOGIN_COUNT = 100;
+    @Autowired
+    private AuthService authService;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private MemberOutboxRepository memberOutboxRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @MockBean
+    private KakaoApiClient kakaoApiClient;
+    @MockBean
+    private QueueService queueService;
+    @MockBean
+    private TokenProvider tokenProvider;
+    @MockBean
+    private RefreshTokenService refreshTokenService;
+    @MockBean
+    private MemberEmailCache memberEmailCache;
+    @MockBean
+    private EmailExistenceFilter emailExistenceFilter;
+    @MockBean
+    private MemberProfileCache memberProfileCache;
+    @MockBean
+    private PasswordEncoder passwordEncoder;
+    @MockBean
+    private JavaMailSender javaMailSender;
+    @MockBean
+    private RedisUtil redisUtil;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        memberOutboxRepository.deleteAll();
+        memberRepository.deleteAll();
+        when(kakaoApiClient.getProfile(anyString())).thenReturn(new PostMemberReqDTO("kakao@email.com", "kakao"));
+        when(tokenProvider.createKakaoAccessToken(anyString())).thenReturn(new IssuedToken("access", new Date(), "jti"));
+        when(tokenProvider.createRefreshToken()).thenReturn(new IssuedToken("refresh", new Date(), "value"));
+        // 로컬 캐시 없이 항상 DB 조회
+        when(memberEmailCache.getMemberId(anyString(), any())).thenAnswer(invocation ->
+                ((Function<String, Optional<Long>>) invocation.getArgument(1)).apply(invocation.getArgument(0)));
+    }
+
+    @Test
+    @DisplayName("같은 이메일로 동시에 첫 로그인 지연 시간")
+    public void testConcurrentFirstLogin() throws Exception {
+        // when
+        long[] latencies = runConcurrently(() -> authService.kakaoSignup("kakao-token"));
+
+        // then
+        List<Member> members = memberRepository.findAll();
+        assertEquals(1, members.size());
+        Long memberId = members.get(0).getId();
+        assertEquals("kakao@email.com", members.get(0).getEmailKey());
+        assertEquals(1, memberOutboxRepository.count());
+        verify(queueService, times(1)).createQueueForMember(memberId);
+        verify(refreshTokenService, times(LOGIN_COUNT)).updateRefreshToken(eq(memberId), anyString(), anyList(), any());
+        printLatencies("upsert", latencies);
+    }
+
+    @Test
+    @DisplayName("기존 유저 로그인은 이메일 키 조회 한 번으로 처리")
+    public void testReturningLogin() {
+        // given
+        authService.kakaoSignup("kakao-token");
+        Long memberId = memberRepository.findAll().get(0).getId();
+        clearInvocations(queueService, refreshTokenService);
+
+        // when
+        long[] latencies = new long[LOGIN_COUNT];
+        for (int i = 0; i < LOGIN_COUNT; i++) {
+            long startTime = System.nanoTime();
+            TokenDTO.TokenData tokenData = authService.kakaoSignup("kakao-token");
+            latencies[i] = System.nanoTime() - startTime;
+            assertEquals("access", tokenData.getAccessToken());
+        }
+
+        // then
+        assertEquals(1, memberRepository.count());
+        verify(queueService, never()).createQueueForMember(any());
+        verify(refreshTokenService, times(LOGIN_COUNT)).updateRefreshToken(eq(memberId), anyString(), anyList(), isNull());
+        printLatencies("returning", latencies);
+    }
+
+    @Test
+    @DisplayName("비교용: 조회 후 저장 방식은 동시 첫 로그인 시 유니크 제약 위반 발생")
+    public void testCheckThenActBaseline() throws Exception {
+        // when
+        AtomicInteger failures = new AtomicInteger();
+        long[] latencies = runConcurrently(() -> {
+            try {
+                return transactionTemplate.execute(status -> memberRepository.findIdByEmailKey("baseline@email.com")
+                        .orElseGet(() -> memberRepository.save(Member.builder().email("baseline@email.com").nickname("kakao")
+                                .authority(Authority.ROLE_USER).status(Status.ENABLED).build()).getId()));
+            } catch (RuntimeException e) {
+                failures.incrementAndGet();
+
+                return null;
+            }
+        });
+
+        // then
+        assertEquals(1, memberRepository.count());
+        System.out.printf("check-then-act failures=%d/%d%n", failures.get(), LOGIN_COUNT);
+        printLatencies("check-then-act", latencies);
+    }
+
+    private long[] runConcurrently(Callable<?> login) throws Exception {
+        long[] latencies = new long[LOGIN_COUNT];
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executorService = Executors.newFixedThreadPool(LOGIN_COUNT);
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int i = 0; i < LOGIN_COUNT; i++) {
+            int index = i;
+            futures.add(executorService.submit(() -> {
+                start.await();
+                long startTime = System.nanoTime();
+                Object result = login.call();
+                latencies[index] = System.nanoTime() - startTime;
+
+                return result;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executorService.shutdown();
+
+        return latencies;
+    }
+
+    private static void printLatencies(String name, long[] latencies) {
+        long[] sorted = latencies.clone();
+        Arrays.sort(sorted);
+        System.out.printf("%s logins=%d p50=%.3fms p99=%.3fms%n", name, sorted.length,
+                sorted[sorted.length / 2] / 1_000_000.0, sorted[(int) (sorted.length * 0.99)] / 1_000_000.0);
+    }
+}
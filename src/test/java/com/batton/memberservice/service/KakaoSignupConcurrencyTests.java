@@ -0,0 +1,166 @@
+package com.batton.memberservice.service;
+
+import com.batton.memberservice.cache.EmailExistenceFilter;
+import com.batton.memberservice.cache.MemberEmailCache;
+import com.batton.memberservice.cache.MemberProfileCache;
+import com.batton.memberservice.domain.Member;
+import com.batton.memberservice.dto.PostMemberReqDTO;
+import com.batton.memberservice.enums.Authority;
+import com.batton.memberservice.enums.Status;
+import com.batton.memberservice.mq.MemberEventPublisher;
+import com.batton.memberservice.mq.QueueService;
+import com.batton.memberservice.repository.MemberOutboxRepository;
+import com.batton.memberservice.repository.MemberRepository;
+import com.batton.memberservice.security.IssuedToken;
+import com.batton.memberservice.security.TokenProvider;
+import com.batton.memberservice.security.service.RefreshTokenService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * MySQL 모드 H2 에서 같은 이메일로 동시에 첫 카카오 로그인
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:kakao;MODE=MySQL;LOCK_TIMEOUT=10000;DB_CLOSE_DELAY=-1",
+        "spring.datasource.hikari.maximum-pool-size=20",
+        "social-key.vite-kakao-key=key",
+        "social-key.vite-kakao-redirect=redirect"})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({AuthService.class, MemberEventPublisher.class})
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+public class KakaoSignupConcurrencyTests {
+    private static final int LOGIN_COUNT = 100;
+    @Autowired
+    private AuthService authService;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private MemberOutboxRepository memberOutboxRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @MockBean
+    private KakaoApiClient kakaoApiClient;
+    @MockBean
+    private QueueService queueService;
+    @MockBean
+    private TokenProvider tokenProvider;
+    @MockBean
+    private RefreshTokenService refreshTokenService;
+    @MockBean
+    private MemberEmailCache memberEmailCache;
+    @MockBean
+    private EmailExistenceFilter emailExistenceFilter;
+    @MockBean
+    private MemberProfileCache memberProfileCache;
+    @MockBean
+    private PasswordEncoder passwordEncoder;
+    @MockBean
+    private JavaMailSender javaMailSender;
+    @MockBean
+    private RedisUtil redisUtil;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        memberOutboxRepository.deleteAll();
+        memberRepository.deleteAll();
+        when(kakaoApiClient.getProfile(anyString())).thenReturn(new PostMemberReqDTO("kakao@email.com", "kakao"));
+        when(tokenProvider.createKakaoAccessToken(anyString())).thenReturn(new IssuedToken("access", new Date(), "jti"));
+        when(tokenProvider.createRefreshToken()).thenReturn(new IssuedToken("refresh", new Date(), "value"));
+        // 로컬 캐시 없이 항상 DB 조회
+        when(memberEmailCache.getMemberId(anyString(), any())).thenAnswer(invocation ->
+                ((Function<String, Optional<Long>>) invocation.getArgument(1)).apply(invocation.getArgument(0)));
+    }
+
+    @Test
+    @DisplayName("같은 이메일로 동시에 첫 로그인하면 유저와 큐는 하나만 생성")
+    public void testConcurrentFirstLogin() throws Exception {
+        // when
+        runConcurrently(() -> authService.kakaoSignup("kakao-token"));
+
+        // then
+        List<Member> members = memberRepository.findAll();
+        assertEquals(1, members.size());
+        Long memberId = members.get(0).getId();
+        assertEquals("kakao@email.com", members.get(0).getEmailKey());
+        assertEquals(1, memberOutboxRepository.count());
+        verify(queueService, times(1)).createQueueForMember(memberId);
+        verify(refreshTokenService, times(LOGIN_COUNT)).updateRefreshToken(eq(memberId), anyString(), anyList(), any());
+    }
+
+    @Test
+    @DisplayName("이메일 중복은 기존 행을 건드리지 않고 무시하며 그 외 저장 오류는 그대로 실패")
+    public void testInsertIfAbsentFailsOnOtherErrors() {
+        // given
+        Member member = Member.builder().email("insert@email.com").nickname("kakao")
+                .authority(Authority.ROLE_USER).status(Status.ENABLED).build();
+        Member tooLongNickname = Member.builder().email("long@email.com").nickname("n".repeat(300))
+                .authority(Authority.ROLE_USER).status(Status.ENABLED).build();
+
+        // when
+        Optional<Long> insertedId = memberRepository.insertIfAbsent(member);
+        LocalDateTime updatedAt = memberRepository.findById(insertedId.get()).get().getUpdatedAt();
+        // 중복 키 오류 뒤에도 같은 트랜잭션을 계속 사용할 수 있음
+        Optional<Long> duplicatedId = transactionTemplate.execute(status -> {
+            Optional<Long> id = memberRepository.insertIfAbsent(member);
+            assertEquals(insertedId, memberRepository.findIdByEmailKey("insert@email.com"));
+
+            return id;
+        });
+
+        // then
+        assertTrue(duplicatedId.isEmpty());
+        assertEquals(updatedAt, memberRepository.findById(insertedId.get()).get().getUpdatedAt());
+        assertThrows(DataIntegrityViolationException.class, () -> memberRepository.insertIfAbsent(tooLongNickname));
+        assertEquals(1, memberRepository.count());
+    }
+
+    private void runConcurrently(Callable<?> login) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executorService = Executors.newFixedThreadPool(LOGIN_COUNT);
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int i = 0; i < LOGIN_COUNT; i++) {
+            futures.add(executorService.submit(() -> {
+                start.await();
+
+                return login.call();
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executorService.shutdown();
+    }
+}
@@ -0,0 +1,81 @@
+package com.batton.memberservice.service;
+
+import com.batton.memberservice.dto.GetMemberExportResDTO;
+import com.batton.memberservice.enums.Status;
+import com.batton.memberservice.repository.MemberRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class MemberExportServiceTests {
+    @Mock
+    private MemberRepository memberRepository;
+    private MemberExportService memberExportService;
+    // 애플리케이션 ObjectMapper 와 같이 날짜는 ISO 문자열로 출력
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    @BeforeEach
+    public void setUp() {
+        memberExportService = new MemberExportService(memberRepository, objectMapper, 2);
+    }
+
+    @Test
+    @DisplayName("keyset 으로 청크를 이어 조회하여 NDJSON 출력")
+    public void testExportProfilesByKeyset() throws Exception {
+        // given
+        LocalDateTime updatedAt = LocalDateTime.of(2023, 7, 1, 12, 0);
+        when(memberRepository.findExportChunk(eq(0L), any(Pageable.class))).thenReturn(Arrays.asList(
+                new GetMemberExportResDTO(1L, "nika", "image", Status.ENABLED, updatedAt),
+                new GetMemberExportResDTO(3L, "nika3", null, Status.DISABLED, updatedAt)));
+        when(memberRepository.findExportChunk(eq(3L), any(Pageable.class))).thenReturn(Collections.singletonList(
+                new GetMemberExportResDTO(7L, "nika7", null, Status.ENABLED, updatedAt)));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // when
+        long lastId = memberExportService.exportProfiles(0L, outputStream);
+
+        // then
+        String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(7L, lastId);
+        assertEquals(3, lines.length);
+        assertEquals(1L, objectMapper.readTree(lines[0]).get("memberId").asLong());
+        assertEquals("DISABLED", objectMapper.readTree(lines[1]).get("status").asText());
+        assertEquals("2023-07-01T12:00:00", objectMapper.readTree(lines[2]).get("updatedAt").asText());
+        verify(memberRepository, times(2)).findExportChunk(anyLong(), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("이어받기 시 afterId 이후부터 조회")
+    public void testExportProfilesResume() throws Exception {
+        // given
+        when(memberRepository.findExportChunk(eq(100L), any(Pageable.class))).thenReturn(Collections.emptyList());
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // when
+        long lastId = memberExportService.exportProfiles(100L, outputStream);
+
+        // then
+        assertEquals(100L, lastId);
+        assertEquals(0, outputStream.size());
+    }
+}